@@ -0,0 +1,56 @@
+package benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.IGraph;
+
+// Quadratic and cubic operations, on mazes small enough for them to finish.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class AllPairsBenchmark {
+
+    @Param({ "AdjacencyList", "AdjacencyMatrix", "CsrGraph", "DenseAdjacencyMatrix" })
+    public String implementation;
+
+    @Param({ "10", "20", "40" })
+    public int side;
+
+    @Param({ "0.1", "0.3" })
+    public double wallDensity;
+
+    private IGraph<Integer> graph;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int[][] matrix = MazeGenerator.grid(side, side, wallDensity, 9, 42);
+        graph = MazeGenerator.build(MazeGenerator.newGraph(implementation), matrix);
+    }
+
+    @Benchmark
+    public Map<Integer, Map<Integer, Integer>> floydWarshall() {
+        return graph.floydWarshall();
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> primMST() {
+        return graph.primMST();
+    }
+}
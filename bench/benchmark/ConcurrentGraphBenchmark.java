@@ -0,0 +1,101 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.IGraph;
+
+// Live maze edits: every thread runs a mix of bfs searches and cell edits
+// (closing or reopening the arc to a neighbor) on one shared graph. One
+// operation is a fixed batch of work split over the threads, so the score
+// scales with the thread count when the graph lets them overlap.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ConcurrentGraphBenchmark {
+    private static final int OPERATIONS = 256;
+
+    @Param({ "AdjacencyList", "ConcurrentAdjacencyList" })
+    public String implementation;
+
+    @Param({ "1", "2", "4", "8", "16", "32" })
+    public int threads;
+
+    @Param({ "10" })
+    public int writePercent;
+
+    @Param({ "100" })
+    public int side;
+
+    private IGraph<Integer> graph;
+    private Integer[][] cells;
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int[][] matrix = MazeGenerator.grid(side, side, 0.1, 9, 42);
+        graph = MazeGenerator.build(MazeGenerator.newGraph(implementation), matrix);
+        cells = MazeGenerator.openCells(matrix, 64, 7);
+        executor = Executors.newFixedThreadPool(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public int mixed() throws Exception {
+        List<Future<Integer>> results = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            long seed = t;
+            results.add(executor.submit(() -> work(OPERATIONS / threads, new SplittableRandom(seed))));
+        }
+        int visited = 0;
+        for (Future<Integer> result : results) {
+            visited += result.get();
+        }
+        return visited;
+    }
+
+    private int work(int operations, SplittableRandom random) {
+        int visited = 0;
+        for (int i = 0; i < operations; i++) {
+            Integer[] cell = cells[random.nextInt(cells.length)];
+            int vertex = cell[0] * side + cell[1];
+            if (random.nextInt(100) >= writePercent) {
+                visited += graph.bfs(vertex).size();
+            } else if (cell[1] + 1 < side) {
+                if (random.nextBoolean()) {
+                    graph.removeEdge(vertex, vertex + 1);
+                } else {
+                    graph.addEdge(vertex, vertex + 1, 1);
+                    graph.addEdge(vertex + 1, vertex, 1);
+                }
+            }
+        }
+        return visited;
+    }
+}
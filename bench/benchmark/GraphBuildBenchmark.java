@@ -0,0 +1,49 @@
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.IGraph;
+
+// addVertex/addEdge cost of turning a maze into each IGraph implementation.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class GraphBuildBenchmark {
+
+    @Param({ "AdjacencyList", "AdjacencyMatrix", "CsrGraph" })
+    public String implementation;
+
+    @Param({ "100", "1000" })
+    public int side;
+
+    @Param({ "0.1", "0.3" })
+    public double wallDensity;
+
+    private int[][] matrix;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        matrix = MazeGenerator.grid(side, side, wallDensity, 9, 42);
+    }
+
+    @Benchmark
+    public IGraph<Integer> build() {
+        return MazeGenerator.build(MazeGenerator.newGraph(implementation), matrix);
+    }
+}
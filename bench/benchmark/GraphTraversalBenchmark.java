@@ -0,0 +1,94 @@
+package benchmark;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import model.Edge;
+import model.IGraph;
+import model.Pair;
+
+// Single-source operations on a prebuilt maze graph.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class GraphTraversalBenchmark {
+
+    @Param({ "AdjacencyList", "AdjacencyMatrix", "CsrGraph" })
+    public String implementation;
+
+    @Param({ "100", "1000" })
+    public int side;
+
+    @Param({ "0.1", "0.3" })
+    public double wallDensity;
+
+    private IGraph<Integer> graph;
+    private Integer start;
+    private PrintStream out;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int[][] matrix = MazeGenerator.grid(side, side, wallDensity, 9, 42);
+        graph = MazeGenerator.build(MazeGenerator.newGraph(implementation), matrix);
+        Integer[] cell = MazeGenerator.openCells(matrix, 1, 7)[0];
+        start = cell[0] * side + cell[1];
+        // dfs prints every vertex; keep that off the benchmark output.
+        out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.setOut(out);
+    }
+
+    @Benchmark
+    public List<Integer> bfs() {
+        return graph.bfs(start);
+    }
+
+    @Benchmark
+    public void dfs() {
+        graph.dfs(start);
+    }
+
+    @Benchmark
+    public Map<Integer, Pair<Integer, Integer>> dijkstra() {
+        return graph.dijkstra(start);
+    }
+
+    @Benchmark
+    public List<Edge<Integer>> kruskalMST() {
+        return graph.kruskalMST();
+    }
+
+    @Benchmark
+    public List<Edge<Integer>> boruvkaMST() {
+        return graph.boruvkaMST();
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> primMST() {
+        return graph.primMST();
+    }
+}
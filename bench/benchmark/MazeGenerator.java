@@ -0,0 +1,93 @@
+package benchmark;
+
+import java.util.Random;
+
+import model.IGraph;
+
+// Seeded random grid mazes in the format Menu reads: -1 is a wall, any other
+// value is the cost of entering the cell.
+public final class MazeGenerator {
+
+    private MazeGenerator() {
+    }
+
+    public static int[][] grid(int rows, int cols, double wallDensity, int maxCost, long seed) {
+        Random random = new Random(seed);
+        int[][] matrix = new int[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                matrix[i][j] = random.nextDouble() < wallDensity ? -1 : random.nextInt(maxCost + 1);
+            }
+        }
+        return matrix;
+    }
+
+    // Distinct-enough open cells as {row, col} pairs, used for entrances and exits.
+    public static Integer[][] openCells(int[][] matrix, int count, long seed) {
+        Random random = new Random(seed);
+        int rows = matrix.length;
+        int cols = matrix[0].length;
+        Integer[][] cells = new Integer[count][];
+        for (int i = 0; i < count; i++) {
+            int row;
+            int col;
+            do {
+                row = random.nextInt(rows);
+                col = random.nextInt(cols);
+            } while (matrix[row][col] < 0);
+            cells[i] = new Integer[] { row, col };
+        }
+        return cells;
+    }
+
+    // Adds the same vertices and arcs the original Menu.buildGraph produced.
+    public static <G extends IGraph<Integer>> G build(G graph, int[][] matrix) {
+        int rows = matrix.length;
+        int cols = matrix[0].length;
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                if (matrix[i][j] > -1) {
+                    graph.addVertex(i * cols + j);
+                }
+            }
+        }
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                if (matrix[i][j] < 0) {
+                    continue;
+                }
+                int vertex = i * cols + j;
+                if (i > 0 && matrix[i - 1][j] > -1) {
+                    graph.addEdge(vertex, vertex - cols, matrix[i - 1][j]);
+                }
+                if (i < rows - 1 && matrix[i + 1][j] > -1) {
+                    graph.addEdge(vertex, vertex + cols, matrix[i + 1][j]);
+                }
+                if (j > 0 && matrix[i][j - 1] > -1) {
+                    graph.addEdge(vertex, vertex - 1, matrix[i][j - 1]);
+                }
+                if (j < cols - 1 && matrix[i][j + 1] > -1) {
+                    graph.addEdge(vertex, vertex + 1, matrix[i][j + 1]);
+                }
+            }
+        }
+        return graph;
+    }
+
+    public static IGraph<Integer> newGraph(String implementation) {
+        switch (implementation) {
+            case "AdjacencyList":
+                return new model.AdjacencyList<>();
+            case "AdjacencyMatrix":
+                return new model.AdjacencyMatrix<>();
+            case "CsrGraph":
+                return new model.CsrGraph();
+            case "ConcurrentAdjacencyList":
+                return new model.ConcurrentAdjacencyList<>();
+            case "DenseAdjacencyMatrix":
+                return new model.DenseAdjacencyMatrix<>();
+            default:
+                throw new IllegalArgumentException("Unknown graph implementation: " + implementation);
+        }
+    }
+}
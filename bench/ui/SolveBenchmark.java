@@ -0,0 +1,66 @@
+package ui;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import benchmark.MazeGenerator;
+
+// Menu.solve end to end. The menu keeps its graph between calls, so solve
+// measures queries on a built graph and solveCold rebuilds it every time.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class SolveBenchmark {
+
+    @Param({ "100", "1000", "5000" })
+    public int side;
+
+    @Param({ "0.1", "0.3" })
+    public double wallDensity;
+
+    @Param({ "1", "100" })
+    public int entrances;
+
+    private int[][] matrix;
+    private Menu menu;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        matrix = MazeGenerator.grid(side, side, wallDensity, 9, 42);
+        Integer[] exit = MazeGenerator.openCells(matrix, 1, 7)[0];
+        menu = new Menu();
+        menu.setMatrix(matrix);
+        menu.setNumRows(side);
+        menu.setNumCols(side);
+        menu.setEntrances(MazeGenerator.openCells(matrix, entrances, 11));
+        menu.setEndRow(exit[0]);
+        menu.setEndCol(exit[1]);
+    }
+
+    @Benchmark
+    public List<String> solve() {
+        return menu.solve();
+    }
+
+    @Benchmark
+    public List<String> solveCold() {
+        menu.setMatrix(matrix);
+        return menu.solve();
+    }
+}
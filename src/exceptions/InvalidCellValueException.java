@@ -1,5 +1,9 @@
 package exceptions;
 
-public class InvalidCellValueException {
-    
+public class InvalidCellValueException extends Exception {
+    private static final long serialVersionUID = 1L;
+
+    public InvalidCellValueException(int value, int row, int col) {
+        super("Invalid cell value " + value + " at (" + row + "," + col + "): cells are -1 (wall) or a cost >= 0");
+    }
 }
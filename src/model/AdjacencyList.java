@@ -1,299 +1,477 @@
 package model;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.PriorityQueue;
-import java.util.Queue;
-import java.util.Stack;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 public class AdjacencyList<T extends Comparable<T>> implements IGraph<T> {
-    private Map<T, Node<T>> map = new HashMap<>();
+    // Each node carries its vertex id, so the algorithms below keep their
+    // state in arrays indexed by id and only look up T at the boundary.
+    private final VertexInterner<T> ids = new VertexInterner<>();
+    private final List<Node<T>> nodes = new ArrayList<>();
+    private volatile int heapArity = IndexedMinHeap.DEFAULT_ARITY;
+    // Reads share the lock and mutations take it exclusively, so any number
+    // of searches can run at once while the graph is not being changed.
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private int minWeight;
+    private int maxWeight;
+    private final IntGraph forward = new Arcs(true);
+    private final IntGraph backward = new Arcs(false);
+
+    // The graph over node ids, for IntGraphSearch; an edge handle is the
+    // arc's position in its node's list. Callers hold the read lock.
+    private class Arcs implements IntGraph {
+        private final boolean outgoing;
+
+        Arcs(boolean outgoing) {
+            this.outgoing = outgoing;
+        }
 
-    @Override
-    public void addVertex(T value) {
-        if (!map.containsKey(value)) {
-            Node<T> node = new Node<>(value);
-            map.put(value, node);
+        @Override
+        public int capacity() {
+            return ids.capacity();
+        }
+
+        @Override
+        public boolean containsVertex(int vertex) {
+            return ids.contains(vertex);
+        }
+
+        @Override
+        public int firstEdge(int vertex) {
+            return nextEdge(vertex, -1);
+        }
+
+        @Override
+        public int nextEdge(int vertex, int edge) {
+            Node<T> node = nodes.get(vertex);
+            return edge + 1 < (outgoing ? node.degree() : node.inDegree()) ? edge + 1 : -1;
+        }
+
+        @Override
+        public int target(int vertex, int edge) {
+            Node<T> node = nodes.get(vertex);
+            return outgoing ? node.getEdge(edge).getNode().getId() : node.getIncomingEdge(edge).getSource().getId();
+        }
+
+        @Override
+        public int weight(int vertex, int edge) {
+            Node<T> node = nodes.get(vertex);
+            return (outgoing ? node.getEdge(edge) : node.getIncomingEdge(edge)).getWeight();
+        }
+
+        @Override
+        public int minWeight() {
+            return minWeight;
+        }
+
+        @Override
+        public int maxWeight() {
+            return maxWeight;
+        }
+
+        @Override
+        public IntGraph reverse() {
+            return outgoing ? backward : forward;
         }
     }
 
-    @Override
-    public void addEdge(T source, T destination, int weight) {
-        Node<T> sourceNode = map.get(source);
-        Node<T> destinationNode = map.get(destination);
+    private Node<T> node(Object value) {
+        int id = ids.idOf(value);
+        return id < 0 ? null : nodes.get(id);
+    }
 
-        if (sourceNode == null) {
-            sourceNode = new Node<>(source);
-            map.put(source, sourceNode);
+    private Node<T> intern(T value) {
+        int id = ids.intern(value);
+        if (id == nodes.size()) {
+            nodes.add(new Node<>(value, id));
+        } else if (nodes.get(id) == null) {
+            nodes.set(id, new Node<>(value, id));
         }
+        return nodes.get(id);
+    }
 
-        if (destinationNode == null) {
-            destinationNode = new Node<>(destination);
-            map.put(destination, destinationNode);
+    @Override
+    public void addVertex(T value) {
+        lock.writeLock().lock();
+        try {
+            intern(value);
+        } finally {
+            lock.writeLock().unlock();
         }
+    }
 
-        sourceNode.addNeighbor(new Edge<>(sourceNode, destinationNode, weight));
+    @Override
+    public void addEdge(T source, T destination, int weight) {
+        lock.writeLock().lock();
+        try {
+            Node<T> sourceNode = intern(source);
+            Node<T> destinationNode = intern(destination);
+            if (sourceNode.addNeighbor(new Edge<>(sourceNode, destinationNode, weight))) {
+                minWeight = Math.min(minWeight, weight);
+                maxWeight = Math.max(maxWeight, weight);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
     public List<T> getNeighbors(T value) {
-        Node<T> node = map.get(value);
-        if (node == null) {
-            return Collections.emptyList();
-        } else {
-            List<T> neighbors = new ArrayList<>();
-            for (Edge<T> neighbor : node.getEdges()) {
-                neighbors.add(neighbor.getNode().getValue());
+        lock.readLock().lock();
+        try {
+            Node<T> node = node(value);
+            if (node == null) {
+                return Collections.emptyList();
+            } else {
+                List<T> neighbors = new ArrayList<>();
+                for (Edge<T> neighbor : node.getEdges()) {
+                    neighbors.add(neighbor.getNode().getValue());
+                }
+                return neighbors;
             }
-            return neighbors;
+        } finally {
+            lock.readLock().unlock();
         }
     }
 
     @Override
     public List<T> bfs(T start) {
-        if (!map.containsKey(start))
-            return null;
-        List<T> bfs = new ArrayList<>();
-        Map<T, Boolean> visited = new HashMap<>();
-        Queue<Node<T>> queue = new LinkedList<>();
-
-        Node<T> startNode = map.get(start);
-        visited.put(start, true);
-        queue.add(startNode);
+        lock.readLock().lock();
+        try {
+            if (node(start) == null)
+                return null;
+            List<T> bfs = new ArrayList<>();
+            breadthFirst(start, bfs::add);
+            return bfs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
 
-        while (!queue.isEmpty()) {
-            Node<T> currentNode = queue.poll();
-            bfs.add(currentNode.getValue());
+    @Override
+    public boolean bfs(T start, Visitor<T> visitor) {
+        lock.readLock().lock();
+        try {
+            return breadthFirst(start, visitor);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
 
+    private boolean breadthFirst(T start, Visitor<T> visitor) {
+        Node<T> startNode = node(start);
+        if (startNode == null)
+            return false;
+        BitSet visited = new BitSet(ids.capacity());
+        int[] queue = new int[ids.size()];
+        int head = 0;
+        int tail = 0;
+        visited.set(startNode.getId());
+        queue[tail++] = startNode.getId();
+
+        while (head < tail) {
+            Node<T> currentNode = nodes.get(queue[head++]);
+            if (!visitor.visit(currentNode.getValue())) {
+                return true;
+            }
             for (Edge<T> neighbor : currentNode.getEdges()) {
-                T neighborValue = neighbor.getNode().getValue();
-                if (!visited.containsKey(neighborValue)) {
-                    visited.put(neighborValue, true);
-                    queue.add(neighbor.getNode());
+                int id = neighbor.getNode().getId();
+                if (!visited.get(id)) {
+                    visited.set(id);
+                    queue[tail++] = id;
                 }
             }
         }
-        return bfs;
+        return false;
     }
 
     @Override
     public void dfs(T start) {
-        if (!map.containsKey(start))
-            return;
-        Map<T, Boolean> visited = new HashMap<>();
-        Stack<Node<T>> stack = new Stack<>();
-
-        Node<T> startNode = map.get(start);
-        stack.push(startNode);
-
-        while (!stack.isEmpty()) {
-            Node<T> currentNode = stack.pop();
-            if (visited.containsKey(currentNode.getValue()))
-                continue;
+        dfs(start, vertex -> {
+            System.out.print(vertex + " ");
+            return true;
+        });
+    }
 
-            visited.put(currentNode.getValue(), true);
-            System.out.print(currentNode.getValue() + " ");
+    @Override
+    public boolean dfs(T start, Visitor<T> visitor) {
+        lock.readLock().lock();
+        try {
+            Node<T> startNode = node(start);
+            if (startNode == null)
+                return false;
+            BitSet visited = new BitSet(ids.capacity());
+            int[] stack = new int[16];
+            int top = 0;
+            stack[top++] = startNode.getId();
+
+            while (top > 0) {
+                int current = stack[--top];
+                if (visited.get(current))
+                    continue;
+                visited.set(current);
+                Node<T> currentNode = nodes.get(current);
+                if (!visitor.visit(currentNode.getValue())) {
+                    return true;
+                }
 
-            for (Edge<T> neighbor : currentNode.getEdges()) {
-                if (!visited.containsKey(neighbor.getNode().getValue())) {
-                    stack.push(neighbor.getNode());
+                for (Edge<T> neighbor : currentNode.getEdges()) {
+                    int id = neighbor.getNode().getId();
+                    if (!visited.get(id)) {
+                        if (top == stack.length) {
+                            stack = Arrays.copyOf(stack, top * 2);
+                        }
+                        stack[top++] = id;
+                    }
                 }
             }
+            return false;
+        } finally {
+            lock.readLock().unlock();
         }
     }
 
     @Override
     public List<T> getVertices() {
-        return new ArrayList<>(map.keySet());
+        lock.readLock().lock();
+        try {
+            List<T> vertices = new ArrayList<>(ids.size());
+            for (int v = ids.first(); v >= 0; v = ids.next(v)) {
+                vertices.add(ids.value(v));
+            }
+            return vertices;
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public void removeVertex(T value) {
-        Node<T> node = map.get(value);
-        if (node != null) {
-            for (Node<T> vertex : map.values()) {
-                vertex.removeNeighbor(node);
+        lock.writeLock().lock();
+        try {
+            Node<T> node = node(value);
+            if (node != null) {
+                for (Edge<T> edge : new ArrayList<>(node.getIncomingEdges())) {
+                    edge.getSource().removeNeighbor(node);
+                }
+                for (Edge<T> edge : new ArrayList<>(node.getEdges())) {
+                    node.removeNeighbor(edge.getNode());
+                }
+                nodes.set(ids.remove(value), null);
             }
-            map.remove(value);
+        } finally {
+            lock.writeLock().unlock();
         }
     }
 
     @Override
     public void removeEdge(T source, T destination) {
-        Node<T> sourceNode = map.get(source);
-        Node<T> destinationNode = map.get(destination);
-        if (sourceNode != null && destinationNode != null) {
-            sourceNode.removeNeighbor(destinationNode);
-            destinationNode.removeNeighbor(sourceNode);
+        lock.writeLock().lock();
+        try {
+            Node<T> sourceNode = node(source);
+            Node<T> destinationNode = node(destination);
+            if (sourceNode != null && destinationNode != null) {
+                sourceNode.removeNeighbor(destinationNode);
+                destinationNode.removeNeighbor(sourceNode);
+            }
+        } finally {
+            lock.writeLock().unlock();
         }
     }
 
     @Override
     public void clear() {
-        map.clear();
+        lock.writeLock().lock();
+        try {
+            ids.clear();
+            nodes.clear();
+            minWeight = 0;
+            maxWeight = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
     public Map<T, Pair<Integer, T>> dijkstra(T start) {
-        if (!map.containsKey(start))
-            return new HashMap<>();
-        Map<T, Pair<Integer, T>> distances = new HashMap<>();
-        Map<T, Boolean> visited = new HashMap<>();
-        PriorityQueue<Node<T>> queue = new PriorityQueue<>(
-                (n1, n2) -> Integer.compare(distances.get(n1.getValue()).getFirst(), distances.get(n2.getValue())
-                        .getFirst()));
-
-        for (T vertex : map.keySet()) {
-            distances.put(vertex, new Pair<>(Integer.MAX_VALUE, null));
-        }
-
-        distances.put(start, new Pair<>(0, null));
-
-        Node<T> startNode = map.get(start);
-        queue.add(startNode);
-
-        while (!queue.isEmpty()) {
-            Node<T> currentNode = queue.poll();
-            T currentVertex = currentNode.getValue();
-
-            if (visited.containsKey(currentVertex)) {
-                continue;
-            }
-
-            visited.put(currentVertex, true);
-
-            for (Edge<T> edge : currentNode.getEdges()) {
-                T neighborVertex = edge.getNode().getValue();
-                Integer distanceToNeighbor = distances.get(currentVertex).getFirst() + edge.getWeight();
-                if (distanceToNeighbor < distances.get(neighborVertex).getFirst()) {
-                    distances.put(neighborVertex, new Pair<>(distanceToNeighbor, currentNode.getValue()));
-                    queue.add(edge.getNode());
-                }
+        lock.readLock().lock();
+        try {
+            int s = ids.idOf(start);
+            if (s < 0)
+                return new HashMap<>();
+            int[] previous = new int[ids.capacity()];
+            int[] distances = IntGraphSearch.dijkstra(forward, s, previous, heapArity);
+
+            Map<T, Pair<Integer, T>> result = new HashMap<>();
+            for (int v = ids.first(); v >= 0; v = ids.next(v)) {
+                result.put(ids.value(v), new Pair<>(distances[v], previous[v] < 0 ? null : ids.value(previous[v])));
             }
+            return result;
+        } finally {
+            lock.readLock().unlock();
         }
-
-        return distances;
     }
 
-    public Map<T, Map<T, Integer>> floydWarshall() {
-        Map<T, Map<T, Integer>> distances = new HashMap<>();
-
-        for (T vertex : map.keySet()) {
-            distances.put(vertex, new HashMap<>());
-            for (T otherVertex : map.keySet()) {
-                if (vertex.equals(otherVertex)) {
-                    distances.get(vertex).put(otherVertex, 0);
-                } else {
-                    distances.get(vertex).put(otherVertex, Integer.MAX_VALUE);
+    @Override
+    public Map<T, Pair<Integer, T>> shortestPath(T source, T target, Heuristic<T> heuristic) {
+        lock.readLock().lock();
+        try {
+            int s = ids.idOf(source);
+            int t = ids.idOf(target);
+            if (s < 0 || t < 0)
+                return new HashMap<>();
+            int[] previous = new int[ids.capacity()];
+            int[] distances = IntGraphSearch.aStar(forward, s, t, previous,
+                    (vertex, goal) -> heuristic.estimate(ids.value(vertex), ids.value(goal)), heapArity);
+
+            Map<T, Pair<Integer, T>> result = new HashMap<>();
+            for (int v = 0; v < distances.length; v++) {
+                if (distances[v] != Integer.MAX_VALUE) {
+                    result.put(ids.value(v), new Pair<>(distances[v], previous[v] < 0 ? null : ids.value(previous[v])));
                 }
             }
+            return result;
+        } finally {
+            lock.readLock().unlock();
         }
+    }
 
-        for (Node<T> node : map.values()) {
-            for (Edge<T> edge : node.getEdges()) {
-                distances.get(node.getValue()).put(edge.getNode().getValue(), edge.getWeight());
+    // Returns the labels of the vertices on the shortest path only, with
+    // distances measured from source.
+    @Override
+    public Map<T, Pair<Integer, T>> bidirectionalDijkstra(T source, T target) {
+        lock.readLock().lock();
+        try {
+            int s = ids.idOf(source);
+            int t = ids.idOf(target);
+            Map<T, Pair<Integer, T>> result = new HashMap<>();
+            if (s < 0 || t < 0)
+                return result;
+            int[] previous = new int[ids.capacity()];
+            if (IntGraphSearch.bidirectionalDijkstra(forward, backward, s, t, previous, heapArity)
+                    == Integer.MAX_VALUE) {
+                return result;
+            }
+            for (Map.Entry<Integer, Pair<Integer, Integer>> label : IntGraphSearch.pathLabels(forward, t, previous)
+                    .entrySet()) {
+                Integer before = label.getValue().getSecond();
+                result.put(ids.value(label.getKey()),
+                        new Pair<>(label.getValue().getFirst(), before == null ? null : ids.value(before)));
             }
+            return result;
+        } finally {
+            lock.readLock().unlock();
         }
+    }
 
-        for (T k : map.keySet()) {
-            for (T i : map.keySet()) {
-                for (T j : map.keySet()) {
-                    int distanceIK = distances.get(i).get(k);
-                    int distanceKJ = distances.get(k).get(j);
-                    int distanceIJ = distances.get(i).get(j);
-
-                    if (distanceIK != Integer.MAX_VALUE && distanceKJ != Integer.MAX_VALUE
-                            && distanceIK + distanceKJ < distanceIJ) {
-                        distances.get(i).put(j, distanceIK + distanceKJ);
-                    }
+    @Override
+    public FrozenGraph<T> freeze() {
+        lock.readLock().lock();
+        try {
+            FrozenGraph.Builder<T> builder = new FrozenGraph.Builder<>();
+            for (int v = ids.first(); v >= 0; v = ids.next(v)) {
+                builder.addVertex(ids.value(v));
+            }
+            for (int v = ids.first(); v >= 0; v = ids.next(v)) {
+                for (Edge<T> edge : nodes.get(v).getEdges()) {
+                    builder.addEdge(ids.value(v), edge.getNode().getValue(), edge.getWeight());
                 }
             }
+            return builder.build();
+        } finally {
+            lock.readLock().unlock();
         }
-
-        return distances;
     }
 
-    public Map<T, T> primMST() {
-        if (map.isEmpty()) {
-            return new HashMap<>();
-        }
-
-        Map<T, Integer> key = new HashMap<>();
-        Map<T, T> parent = new HashMap<>();
-        Map<T, Boolean> mstSet = new HashMap<>();
-
-        for (T vertex : map.keySet()) {
-            key.put(vertex, Integer.MAX_VALUE);
-            parent.put(vertex, null);
-            mstSet.put(vertex, false);
-        }
-
-        key.put(map.keySet().iterator().next(), 0);
-
-        for (int count = 0; count < map.size() - 1; count++) {
-            T u = getMinKey(key, mstSet);
-            mstSet.put(u, true);
+    public void setHeapArity(int heapArity) {
+        this.heapArity = heapArity;
+    }
 
-            for (Edge<T> edge : map.get(u).getEdges()) {
-                T v = edge.getNode().getValue();
+    public Map<T, Map<T, Integer>> floydWarshall() {
+        lock.readLock().lock();
+        try {
+            VertexIndex<T> index = new VertexIndex<>();
+            int[] compact = new int[ids.capacity()];
+            for (int v = ids.first(); v >= 0; v = ids.next(v)) {
+                compact[v] = index.add(ids.value(v));
+            }
+            int n = index.size();
+            int[] distances = FloydWarshall.initialDistances(n);
 
-                if (!mstSet.get(v) && edge.getWeight() < key.get(v)) {
-                    parent.put(v, u);
-                    key.put(v, edge.getWeight());
+            for (int v = ids.first(); v >= 0; v = ids.next(v)) {
+                for (Edge<T> edge : nodes.get(v).getEdges()) {
+                    FloydWarshall.addEdge(distances, n, compact[v], compact[edge.getNode().getId()], edge.getWeight());
                 }
             }
-        }
 
-        return parent;
+            FloydWarshall.run(distances, n);
+            return new DistanceTable<>(index, distances);
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
-    private T getMinKey(Map<T, Integer> key, Map<T, Boolean> mstSet) {
-        int min = Integer.MAX_VALUE;
-        T minKey = null;
+    public Map<T, T> primMST() {
+        lock.readLock().lock();
+        try {
+            Map<T, T> parent = new HashMap<>();
+            if (ids.size() == 0) {
+                return parent;
+            }
+            int[] parents = new int[ids.capacity()];
+            IntGraphSearch.prim(forward, ids.first(), parents, heapArity);
 
-        for (T vertex : map.keySet()) {
-            if (!mstSet.get(vertex) && key.get(vertex) < min) {
-                min = key.get(vertex);
-                minKey = vertex;
+            for (int v = ids.first(); v >= 0; v = ids.next(v)) {
+                parent.put(ids.value(v), parents[v] < 0 ? null : ids.value(parents[v]));
             }
+            return parent;
+        } finally {
+            lock.readLock().unlock();
         }
-
-        return minKey;
     }
 
     public List<Edge<T>> kruskalMST() {
-        List<Edge<T>> mst = new ArrayList<>();
-
-        List<Edge<T>> edges = new ArrayList<>();
-        for (Node<T> node : map.values()) {
-            edges.addAll(node.getEdges());
-        }
-
-        Collections.sort(edges, Comparator.comparingInt(Edge::getWeight));
+        return spanningForest(FilterKruskal::run);
+    }
 
-        DisjointSet<T> disjointSet = new DisjointSet<>();
-        for (T vertex : map.keySet()) {
-            disjointSet.makeSet(vertex);
-        }
+    public List<Edge<T>> boruvkaMST() {
+        return spanningForest(Boruvka::run);
+    }
 
-        for (Edge<T> edge : edges) {
-            T source = edge.getSource().getValue();
-            T destination = edge.getNode().getValue();
+    // The arcs go to the MST engine as id and weight arrays; only the chosen
+    // ones are looked up again as Edge objects.
+    private List<Edge<T>> spanningForest(SpanningForest engine) {
+        lock.readLock().lock();
+        try {
+            List<Edge<T>> edges = new ArrayList<>();
+            for (int v = ids.first(); v >= 0; v = ids.next(v)) {
+                edges.addAll(nodes.get(v).getEdges());
+            }
+            int m = edges.size();
+            int[] sources = new int[m];
+            int[] targets = new int[m];
+            int[] weights = new int[m];
+            for (int i = 0; i < m; i++) {
+                Edge<T> edge = edges.get(i);
+                sources[i] = edge.getSource().getId();
+                targets[i] = edge.getNode().getId();
+                weights[i] = edge.getWeight();
+            }
 
-            if(source!= null&& destination!= null){
-                if (!disjointSet.findSet(source).equals(disjointSet.findSet(destination))) {
-                    mst.add(edge);
-    
-                    disjointSet.union(source, destination);
-                }
+            List<Edge<T>> mst = new ArrayList<>();
+            for (int i : engine.run(ids.capacity(), sources, targets, weights, m)) {
+                mst.add(edges.get(i));
             }
+            return mst;
+        } finally {
+            lock.readLock().unlock();
         }
-
-        return mst;
     }
-}
\ No newline at end of file
+}
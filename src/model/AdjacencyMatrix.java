@@ -1,266 +1,515 @@
 package model;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.PriorityQueue;
-import java.util.Queue;
-import java.util.Set;
-import java.util.Stack;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 public class AdjacencyMatrix<T> implements IGraph<T> {
 
-    private HashMap<T, HashMap<T, Integer>> map = new HashMap<>();
+    // The non-empty cells of the matrix, by vertex id: rows hold the arcs out
+    // of a vertex and columns the arcs into it. Each is a sparse row that can
+    // be walked by position, so the rows double as the IntGraph view that the
+    // searches run on.
+    private final VertexInterner<T> ids = new VertexInterner<>();
+    private final List<Row> rows = new ArrayList<>();
+    private final List<Row> columns = new ArrayList<>();
+    private volatile int heapArity = IndexedMinHeap.DEFAULT_ARITY;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private int minWeight;
+    private int maxWeight;
+    private final IntGraph forward = new Cells(rows);
+    private final IntGraph backward = new Cells(columns);
+
+    // Arcs to other ids with their weights, in two parallel arrays. Slots
+    // gives each arc's position by its other end; a removal moves the last
+    // arc into the freed position.
+    private static final class Row {
+        private final Map<Integer, Integer> slots = new HashMap<>();
+        private int[] targets = new int[4];
+        private int[] weights = new int[4];
+        private int size;
+
+        boolean add(int target, int weight) {
+            if (slots.putIfAbsent(target, size) != null) {
+                return false;
+            }
+            if (size == targets.length) {
+                targets = Arrays.copyOf(targets, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            targets[size] = target;
+            weights[size] = weight;
+            size++;
+            return true;
+        }
+
+        void remove(int target) {
+            Integer slot = slots.remove(target);
+            if (slot != null && slot != --size) {
+                targets[slot] = targets[size];
+                weights[slot] = weights[size];
+                slots.put(targets[slot], slot);
+            }
+        }
+    }
+
+    private class Cells implements IntGraph {
+        private final List<Row> lines;
+
+        Cells(List<Row> lines) {
+            this.lines = lines;
+        }
+
+        @Override
+        public int capacity() {
+            return ids.capacity();
+        }
+
+        @Override
+        public boolean containsVertex(int vertex) {
+            return ids.contains(vertex);
+        }
+
+        @Override
+        public int firstEdge(int vertex) {
+            return nextEdge(vertex, -1);
+        }
+
+        @Override
+        public int nextEdge(int vertex, int edge) {
+            return edge + 1 < lines.get(vertex).size ? edge + 1 : -1;
+        }
+
+        @Override
+        public int target(int vertex, int edge) {
+            return lines.get(vertex).targets[edge];
+        }
+
+        @Override
+        public int weight(int vertex, int edge) {
+            return lines.get(vertex).weights[edge];
+        }
+
+        @Override
+        public int minWeight() {
+            return minWeight;
+        }
+
+        @Override
+        public int maxWeight() {
+            return maxWeight;
+        }
+
+        @Override
+        public IntGraph reverse() {
+            return this == forward ? backward : forward;
+        }
+    }
+
+    private int intern(T value) {
+        int id = ids.intern(value);
+        if (id == rows.size()) {
+            rows.add(new Row());
+            columns.add(new Row());
+        } else if (rows.get(id) == null) {
+            rows.set(id, new Row());
+            columns.set(id, new Row());
+        }
+        return id;
+    }
 
     @Override
     public void addVertex(T value) {
-        map.putIfAbsent(value, new HashMap<>());
+        lock.writeLock().lock();
+        try {
+            intern(value);
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
     public void addEdge(T source, T destination, int weight) {
-        addVertex(source);
-        addVertex(destination);
-        map.get(source).putIfAbsent(destination, weight);
+        lock.writeLock().lock();
+        try {
+            int s = intern(source);
+            int t = intern(destination);
+            if (rows.get(s).add(t, weight)) {
+                columns.get(t).add(s, weight);
+                minWeight = Math.min(minWeight, weight);
+                maxWeight = Math.max(maxWeight, weight);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
     public List<T> getNeighbors(T value) {
-        HashMap<T, Integer> nodes = map.get(value);
-        if (nodes == null) {
-            return Collections.emptyList();
-        } else {
-            List<T> neighbors = new ArrayList<>();
-            for (T neighbor : nodes.keySet()) {
-                neighbors.add(neighbor);
+        lock.readLock().lock();
+        try {
+            int v = ids.idOf(value);
+            if (v < 0) {
+                return Collections.emptyList();
+            } else {
+                Row row = rows.get(v);
+                List<T> neighbors = new ArrayList<>(row.size);
+                for (int i = 0; i < row.size; i++) {
+                    neighbors.add(ids.value(row.targets[i]));
+                }
+                return neighbors;
             }
-            return neighbors;
+        } finally {
+            lock.readLock().unlock();
         }
     }
 
     @Override
     public List<T> bfs(T start) {
-        if (!map.containsKey(start))
-            return null;
-        List<T> bfs = new ArrayList<>();
-        Map<T, Boolean> visited = new HashMap<>();
-        Queue<T> queue = new LinkedList<>();
-        visited.put(start, true);
-        queue.add(start);
-
-        while (!queue.isEmpty()) {
-            T currentNode = queue.poll();
-            bfs.add(currentNode);
-            Set<T> edges = map.get(currentNode).keySet();
-            for (T neighbor : edges) {
-                if (!visited.containsKey(neighbor)) {
-                    visited.put(neighbor, true);
-                    queue.add(neighbor);
+        lock.readLock().lock();
+        try {
+            if (ids.idOf(start) < 0)
+                return null;
+            List<T> bfs = new ArrayList<>();
+            breadthFirst(start, bfs::add);
+            return bfs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean bfs(T start, Visitor<T> visitor) {
+        lock.readLock().lock();
+        try {
+            return breadthFirst(start, visitor);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean breadthFirst(T start, Visitor<T> visitor) {
+        int startIndex = ids.idOf(start);
+        if (startIndex < 0)
+            return false;
+        BitSet visited = new BitSet(ids.capacity());
+        int[] queue = new int[ids.size()];
+        int head = 0;
+        int tail = 0;
+        visited.set(startIndex);
+        queue[tail++] = startIndex;
+
+        while (head < tail) {
+            int current = queue[head++];
+            if (!visitor.visit(ids.value(current))) {
+                return true;
+            }
+            Row row = rows.get(current);
+            for (int i = 0; i < row.size; i++) {
+                int id = row.targets[i];
+                if (!visited.get(id)) {
+                    visited.set(id);
+                    queue[tail++] = id;
                 }
             }
         }
-        return bfs;
+        return false;
     }
 
     @Override
     public void dfs(T start) {
-        if (!map.containsKey(start))
-            return;
-        Map<T, Boolean> visited = new HashMap<>();
-        Stack<T> stack = new Stack<>();
-        stack.push(start);
-
-        while (!stack.isEmpty()) {
-            T currentNode = stack.pop();
-            if (visited.containsKey(currentNode))
-                continue;
-
-            visited.put(currentNode, true);
-            System.out.print(currentNode + " ");
-            Set<T> edges = map.get(currentNode).keySet();
-            for (T neighbor : edges) {
-                if (!visited.containsKey(neighbor)) {
-                    stack.push(neighbor);
+        dfs(start, vertex -> {
+            System.out.print(vertex + " ");
+            return true;
+        });
+    }
+
+    @Override
+    public boolean dfs(T start, Visitor<T> visitor) {
+        lock.readLock().lock();
+        try {
+            int startIndex = ids.idOf(start);
+            if (startIndex < 0)
+                return false;
+            BitSet visited = new BitSet(ids.capacity());
+            int[] stack = new int[16];
+            int top = 0;
+            stack[top++] = startIndex;
+
+            while (top > 0) {
+                int current = stack[--top];
+                if (visited.get(current))
+                    continue;
+                visited.set(current);
+                if (!visitor.visit(ids.value(current))) {
+                    return true;
+                }
+
+                Row row = rows.get(current);
+                for (int i = 0; i < row.size; i++) {
+                    int id = row.targets[i];
+                    if (!visited.get(id)) {
+                        if (top == stack.length) {
+                            stack = Arrays.copyOf(stack, top * 2);
+                        }
+                        stack[top++] = id;
+                    }
                 }
             }
+            return false;
+        } finally {
+            lock.readLock().unlock();
         }
     }
 
     @Override
     public List<T> getVertices() {
-        return new ArrayList<>(map.keySet());
+        lock.readLock().lock();
+        try {
+            List<T> vertices = new ArrayList<>(ids.size());
+            for (int v = ids.first(); v >= 0; v = ids.next(v)) {
+                vertices.add(ids.value(v));
+            }
+            return vertices;
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public void removeVertex(T value) {
-        if (map.containsKey(value)) {
-            Set<T> edges = map.keySet();
-            for (T node : edges) {
-                map.get(node).remove(value);
+        lock.writeLock().lock();
+        try {
+            int v = ids.remove(value);
+            if (v >= 0) {
+                Row column = columns.get(v);
+                for (int i = 0; i < column.size; i++) {
+                    rows.get(column.targets[i]).remove(v);
+                }
+                Row row = rows.get(v);
+                for (int i = 0; i < row.size; i++) {
+                    columns.get(row.targets[i]).remove(v);
+                }
+                rows.set(v, null);
+                columns.set(v, null);
             }
-            map.remove(value);
+        } finally {
+            lock.writeLock().unlock();
         }
     }
 
     @Override
     public void removeEdge(T source, T destination) {
-        if (map.containsKey(source) && map.containsKey(destination)) {
-            map.get(source).remove(destination);
+        lock.writeLock().lock();
+        try {
+            int s = ids.idOf(source);
+            int t = ids.idOf(destination);
+            if (s >= 0 && t >= 0) {
+                rows.get(s).remove(t);
+                columns.get(t).remove(s);
+            }
+        } finally {
+            lock.writeLock().unlock();
         }
     }
 
     @Override
     public void clear() {
-        map.clear();
+        lock.writeLock().lock();
+        try {
+            ids.clear();
+            rows.clear();
+            columns.clear();
+            minWeight = 0;
+            maxWeight = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
     public Map<T, Pair<Integer, T>> dijkstra(T start) {
-        if (!map.containsKey(start))
-            return new HashMap<>();
-        Map<T, Pair<Integer, T>> distances = new HashMap<>();
-        Map<T, Boolean> visited = new HashMap<>();
-        PriorityQueue<T> queue = new PriorityQueue<>(
-                (n1, n2) -> Integer.compare(distances.get(n1).getFirst(), distances.get(n2).getFirst()));
-
-        for (T vertex : map.keySet()) {
-            distances.put(vertex, new Pair<>(Integer.MAX_VALUE, null));
-        }
-
-        distances.put(start, new Pair<>(0, null));
-
-        queue.add(start);
-
-        while (!queue.isEmpty()) {
-            T currentNode = queue.poll();
-
-            if (visited.containsKey(currentNode)) {
-                continue;
+        lock.readLock().lock();
+        try {
+            int s = ids.idOf(start);
+            if (s < 0)
+                return new HashMap<>();
+            int[] previous = new int[ids.capacity()];
+            int[] distances = IntGraphSearch.dijkstra(forward, s, previous, heapArity);
+
+            Map<T, Pair<Integer, T>> result = new HashMap<>();
+            for (int v = ids.first(); v >= 0; v = ids.next(v)) {
+                result.put(ids.value(v), new Pair<>(distances[v], previous[v] < 0 ? null : ids.value(previous[v])));
             }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
 
-            visited.put(currentNode, true);
-
-            Set<T> edges = map.get(currentNode).keySet();
-            for (T neighbor : edges) {
-                Integer distanceToNeighbor = distances.get(currentNode).getFirst() + map.get(currentNode).get(neighbor);
-                if (distanceToNeighbor < distances.get(neighbor).getFirst()) {
-                    distances.put(neighbor, new Pair<>(distanceToNeighbor, currentNode));
-                    queue.add(neighbor);
+    @Override
+    public Map<T, Pair<Integer, T>> shortestPath(T source, T target, Heuristic<T> heuristic) {
+        lock.readLock().lock();
+        try {
+            int s = ids.idOf(source);
+            int t = ids.idOf(target);
+            if (s < 0 || t < 0)
+                return new HashMap<>();
+            int[] previous = new int[ids.capacity()];
+            int[] distances = IntGraphSearch.aStar(forward, s, t, previous,
+                    (vertex, goal) -> heuristic.estimate(ids.value(vertex), ids.value(goal)), heapArity);
+
+            Map<T, Pair<Integer, T>> result = new HashMap<>();
+            for (int v = 0; v < distances.length; v++) {
+                if (distances[v] != Integer.MAX_VALUE) {
+                    result.put(ids.value(v), new Pair<>(distances[v], previous[v] < 0 ? null : ids.value(previous[v])));
                 }
             }
+            return result;
+        } finally {
+            lock.readLock().unlock();
         }
+    }
 
-        return distances;
+    // Returns the labels of the vertices on the shortest path only, with
+    // distances measured from source.
+    @Override
+    public Map<T, Pair<Integer, T>> bidirectionalDijkstra(T source, T target) {
+        lock.readLock().lock();
+        try {
+            int s = ids.idOf(source);
+            int t = ids.idOf(target);
+            Map<T, Pair<Integer, T>> result = new HashMap<>();
+            if (s < 0 || t < 0)
+                return result;
+            int[] previous = new int[ids.capacity()];
+            if (IntGraphSearch.bidirectionalDijkstra(forward, backward, s, t, previous, heapArity)
+                    == Integer.MAX_VALUE) {
+                return result;
+            }
+            for (Map.Entry<Integer, Pair<Integer, Integer>> label : IntGraphSearch.pathLabels(forward, t, previous)
+                    .entrySet()) {
+                Integer before = label.getValue().getSecond();
+                result.put(ids.value(label.getKey()),
+                        new Pair<>(label.getValue().getFirst(), before == null ? null : ids.value(before)));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
-    public Map<T, Map<T, Integer>> floydWarshall() {
-        Map<T, Map<T, Integer>> distances = new HashMap<>(map);
-        List<T> vertices = new ArrayList<>(map.keySet());
-
-        for (T k : vertices) {
-            for (T i : vertices) {
-                for (T j : vertices) {
-                    int ik = getDistance(distances, i, k);
-                    int kj = getDistance(distances, k, j);
-                    int ij = getDistance(distances, i, j);
-
-                    if (ik != Integer.MAX_VALUE && kj != Integer.MAX_VALUE && ik + kj < ij) {
-                        distances.get(i).put(j, ik + kj);
-                    }
+    @Override
+    public FrozenGraph<T> freeze() {
+        lock.readLock().lock();
+        try {
+            FrozenGraph.Builder<T> builder = new FrozenGraph.Builder<>();
+            for (int v = ids.first(); v >= 0; v = ids.next(v)) {
+                builder.addVertex(ids.value(v));
+            }
+            for (int v = ids.first(); v >= 0; v = ids.next(v)) {
+                Row row = rows.get(v);
+                for (int i = 0; i < row.size; i++) {
+                    builder.addEdge(ids.value(v), ids.value(row.targets[i]), row.weights[i]);
                 }
             }
+            return builder.build();
+        } finally {
+            lock.readLock().unlock();
         }
-
-        return distances;
     }
 
-    public int getDistance(Map<T, Map<T, Integer>> distances, T i, T k) {
-        distances.putIfAbsent(i,new HashMap<>());
-        distances.get(i).putIfAbsent(k, i == k? 0:Integer.MAX_VALUE);
-        return distances.get(i).get(k);
+    public void setHeapArity(int heapArity) {
+        this.heapArity = heapArity;
     }
 
-    public Map<T, T> primMST() {
-        if (map.isEmpty()) {
-            return new HashMap<>();
-        }
-
-        Map<T, Integer> key = new HashMap<>();
-        Map<T, T> parent = new HashMap<>();
-        Map<T, Boolean> mstSet = new HashMap<>();
-
-        for (T vertex : map.keySet()) {
-            key.put(vertex, Integer.MAX_VALUE);
-            parent.put(vertex, null);
-            mstSet.put(vertex, false);
-        }
-
-        key.put(getVertices().get(0), 0);
-
-        for (int count = 0; count < map.size() - 1; count++) {
-            T u = getMinKey(key, mstSet);
-            mstSet.put(u, true);
-
-            for (T v : getNeighbors(u)) {
-                int weight = map.get(u).get(v);
+    public Map<T, Map<T, Integer>> floydWarshall() {
+        lock.readLock().lock();
+        try {
+            VertexIndex<T> index = new VertexIndex<>();
+            int[] compact = new int[ids.capacity()];
+            for (int v = ids.first(); v >= 0; v = ids.next(v)) {
+                compact[v] = index.add(ids.value(v));
+            }
+            int n = index.size();
+            int[] distances = FloydWarshall.initialDistances(n);
 
-                if (!mstSet.get(v) && weight < key.get(v)) {
-                    parent.put(v, u);
-                    key.put(v, weight);
+            for (int v = ids.first(); v >= 0; v = ids.next(v)) {
+                Row row = rows.get(v);
+                for (int i = 0; i < row.size; i++) {
+                    FloydWarshall.addEdge(distances, n, compact[v], compact[row.targets[i]], row.weights[i]);
                 }
             }
-        }
 
-        return parent;
+            FloydWarshall.run(distances, n);
+            return new DistanceTable<>(index, distances);
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
-    private T getMinKey(Map<T, Integer> key, Map<T, Boolean> mstSet) {
-        int min = Integer.MAX_VALUE;
-        T minKey = null;
+    public Map<T, T> primMST() {
+        lock.readLock().lock();
+        try {
+            Map<T, T> parent = new HashMap<>();
+            if (ids.size() == 0) {
+                return parent;
+            }
+            int[] parents = new int[ids.capacity()];
+            IntGraphSearch.prim(forward, ids.first(), parents, heapArity);
 
-        for (T vertex : map.keySet()) {
-            if (!mstSet.get(vertex) && key.get(vertex) < min) {
-                min = key.get(vertex);
-                minKey = vertex;
+            for (int v = ids.first(); v >= 0; v = ids.next(v)) {
+                parent.put(ids.value(v), parents[v] < 0 ? null : ids.value(parents[v]));
             }
+            return parent;
+        } finally {
+            lock.readLock().unlock();
         }
-
-        return minKey;
     }
 
     public List<Edge<T>> kruskalMST() {
-        List<Edge<T>> mst = new ArrayList<>();
-
-        List<Edge<T>> edges = new ArrayList<>();
-        for (T vertex : map.keySet()) {
-            for (T neighbor : getNeighbors(vertex)) {
-                int weight = map.get(vertex).get(neighbor);
-                edges.add(new Edge<>(new Node<T>(vertex), new Node<T>(neighbor), weight));
-            }
-        }
-
-        edges.sort(Comparator.comparingInt(Edge::getWeight));
-
-        DisjointSet<T> disjointSet = new DisjointSet<>();
-        for (T vertex : map.keySet()) {
-            disjointSet.makeSet(vertex);
-        }
+        return spanningForest(FilterKruskal::run);
+    }
 
-        for (Edge<T> edge : edges) {
-            T source = edge.getSource().getValue();
-            T destination = edge.getNode().getValue();
+    public List<Edge<T>> boruvkaMST() {
+        return spanningForest(Boruvka::run);
+    }
 
-            if (!disjointSet.findSet(source).equals(disjointSet.findSet(destination))) {
-                mst.add(edge);
+    private List<Edge<T>> spanningForest(SpanningForest engine) {
+        lock.readLock().lock();
+        try {
+            int[] sources = new int[16];
+            int[] targets = new int[16];
+            int[] weights = new int[16];
+            int m = 0;
+            for (int v = ids.first(); v >= 0; v = ids.next(v)) {
+                Row row = rows.get(v);
+                for (int i = 0; i < row.size; i++) {
+                    if (m == sources.length) {
+                        sources = Arrays.copyOf(sources, m * 2);
+                        targets = Arrays.copyOf(targets, m * 2);
+                        weights = Arrays.copyOf(weights, m * 2);
+                    }
+                    sources[m] = v;
+                    targets[m] = row.targets[i];
+                    weights[m] = row.weights[i];
+                    m++;
+                }
+            }
 
-                disjointSet.union(source, destination);
+            List<Edge<T>> mst = new ArrayList<>();
+            for (int i : engine.run(ids.capacity(), sources, targets, weights, m)) {
+                mst.add(new Edge<>(new Node<>(ids.value(sources[i])), new Node<>(ids.value(targets[i])), weights[i]));
             }
+            return mst;
+        } finally {
+            lock.readLock().unlock();
         }
-
-        return mst;
     }
 }
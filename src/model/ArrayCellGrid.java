@@ -0,0 +1,29 @@
+package model;
+
+// Wraps the matrix without copying it, so later changes to it show through.
+public class ArrayCellGrid implements CellGrid {
+    private final int[][] matrix;
+    private final int numRows;
+    private final int numCols;
+
+    public ArrayCellGrid(int[][] matrix) {
+        this.matrix = matrix;
+        this.numRows = matrix.length;
+        this.numCols = numRows == 0 ? 0 : matrix[0].length;
+    }
+
+    @Override
+    public int getNumRows() {
+        return numRows;
+    }
+
+    @Override
+    public int getNumCols() {
+        return numCols;
+    }
+
+    @Override
+    public int get(int cell) {
+        return matrix[cell / numCols][cell % numCols];
+    }
+}
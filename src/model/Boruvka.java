@@ -0,0 +1,181 @@
+package model;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Minimum spanning forest by Boruvka's rounds, over the same edge arrays as
+// FilterKruskal. Each round every component picks its cheapest edge to
+// another component, all picked edges are joined, and edges that now lie
+// inside one component are dropped; a grid needs about log2(V) rounds.
+// Picking the cheapest edges and relabelling the vertices are split across the
+// fork-join pool, with components competing for an edge through a CAS on its
+// key. Keys order edges by weight, then index, so the forest is the one
+// Kruskal picks.
+public final class Boruvka {
+    private static final int GRAIN = 1 << 14;
+    private static final long NONE = Long.MAX_VALUE;
+
+    private final int[] sources;
+    private final int[] targets;
+    private final int[] weights;
+    private final int[] component;
+    private final IntDisjointSet sets;
+    private final AtomicLongArray cheapest;
+    private final ForkJoinPool pool;
+
+    private Boruvka(int n, int[] sources, int[] targets, int[] weights, ForkJoinPool pool) {
+        this.sources = sources;
+        this.targets = targets;
+        this.weights = weights;
+        this.component = new int[n];
+        this.sets = new IntDisjointSet(n);
+        this.cheapest = new AtomicLongArray(n);
+        this.pool = pool;
+        for (int v = 0; v < n; v++) {
+            component[v] = v;
+            cheapest.set(v, NONE);
+        }
+    }
+
+    public static int[] run(int n, int[] sources, int[] targets, int[] weights, int m) {
+        return run(n, sources, targets, weights, m, ForkJoinPool.commonPool());
+    }
+
+    // Returns the indices of the chosen edges, cheapest first.
+    public static int[] run(int n, int[] sources, int[] targets, int[] weights, int m, ForkJoinPool pool) {
+        return new Boruvka(n, sources, targets, weights, pool).solve(m);
+    }
+
+    private int[] solve(int m) {
+        int[] edges = new int[m];
+        for (int i = 0; i < m; i++) {
+            edges[i] = i;
+        }
+        int live = m;
+        long[] chosen = new long[Math.max(0, component.length - 1)];
+        int count = 0;
+        int n = component.length;
+        int[] picked = new int[n];
+
+        while (live > 0) {
+            invoke(new Cheapest(edges, 0, live));
+
+            int found = 0;
+            for (int c = 0; c < n; c++) {
+                long key = cheapest.get(c);
+                if (key != NONE) {
+                    picked[found++] = (int) key;
+                    cheapest.set(c, NONE);
+                }
+            }
+            if (found == 0) {
+                break;
+            }
+            for (int i = 0; i < found; i++) {
+                int edge = picked[i];
+                if (sets.union(sources[edge], targets[edge])) {
+                    chosen[count++] = key(edge);
+                }
+            }
+
+            invoke(new Relabel(0, n));
+            int end = 0;
+            for (int i = 0; i < live; i++) {
+                int edge = edges[i];
+                if (component[sources[edge]] != component[targets[edge]]) {
+                    edges[end++] = edge;
+                }
+            }
+            live = end;
+        }
+
+        Arrays.sort(chosen, 0, count);
+        int[] result = new int[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = (int) chosen[i];
+        }
+        return result;
+    }
+
+    private long key(int edge) {
+        return ((long) weights[edge] << 32) | edge;
+    }
+
+    private void invoke(RecursiveAction task) {
+        if (ForkJoinTask.inForkJoinPool() && ForkJoinTask.getPool() == pool) {
+            task.invoke();
+        } else {
+            pool.invoke(task);
+        }
+    }
+
+    // Offers every edge to the components at both of its ends.
+    private class Cheapest extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] edges;
+        private final int from;
+        private final int to;
+
+        Cheapest(int[] edges, int from, int to) {
+            this.edges = edges;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > GRAIN) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new Cheapest(edges, from, mid), new Cheapest(edges, mid, to));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                int edge = edges[i];
+                int a = component[sources[edge]];
+                int b = component[targets[edge]];
+                if (a != b) {
+                    long key = key(edge);
+                    offer(a, key);
+                    offer(b, key);
+                }
+            }
+        }
+
+        private void offer(int c, long key) {
+            long current = cheapest.get(c);
+            while (key < current && !cheapest.compareAndSet(c, current, key)) {
+                current = cheapest.get(c);
+            }
+        }
+    }
+
+    // Points every vertex at the root of its component. Unions are done by
+    // then, so the finds can run side by side.
+    private class Relabel extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        Relabel(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > GRAIN) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new Relabel(from, mid), new Relabel(mid, to));
+                return;
+            }
+            for (int v = from; v < to; v++) {
+                component[v] = sets.find(v);
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package model;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+// Dial's bucket queue for monotone priorities: every queued priority lies in
+// [last polled, last polled + maxWeight], so maxWeight + 1 circular buckets of
+// intrusive linked lists give O(1) insert and decreaseKey.
+public class BucketQueue implements IntPriorityQueue {
+    private final int[] heads;
+    private final int[] next;
+    private final int[] previous;
+    private final int[] priorities;
+    private final boolean[] queued;
+    private final int range;
+    private int size;
+    private int cursor;
+
+    public BucketQueue(int capacity, int maxWeight) {
+        this.range = maxWeight + 1;
+        this.heads = new int[range];
+        this.next = new int[capacity];
+        this.previous = new int[capacity];
+        this.priorities = new int[capacity];
+        this.queued = new boolean[capacity];
+        Arrays.fill(heads, -1);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(int index) {
+        return queued[index];
+    }
+
+    @Override
+    public int priority(int index) {
+        return priorities[index];
+    }
+
+    @Override
+    public void insert(int index, int priority) {
+        if (queued[index]) {
+            throw new IllegalArgumentException("Index already queued: " + index);
+        }
+        checkRange(priority);
+        priorities[index] = priority;
+        link(index);
+        queued[index] = true;
+        size++;
+    }
+
+    @Override
+    public void decreaseKey(int index, int priority) {
+        if (!queued[index]) {
+            throw new NoSuchElementException("Index not queued: " + index);
+        }
+        if (priority > priorities[index]) {
+            throw new IllegalArgumentException("New priority is larger than the current one");
+        }
+        checkRange(priority);
+        unlink(index);
+        priorities[index] = priority;
+        link(index);
+    }
+
+    @Override
+    public int poll() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        while (heads[cursor % range] < 0) {
+            cursor++;
+        }
+        int index = heads[cursor % range];
+        unlink(index);
+        queued[index] = false;
+        size--;
+        return index;
+    }
+
+    private void checkRange(int priority) {
+        if (priority < cursor || priority - cursor >= range) {
+            throw new IllegalArgumentException("Priority " + priority + " outside [" + cursor + ", "
+                    + (cursor + range - 1) + "]");
+        }
+    }
+
+    private void link(int index) {
+        int bucket = priorities[index] % range;
+        int head = heads[bucket];
+        next[index] = head;
+        previous[index] = -1;
+        if (head >= 0) {
+            previous[head] = index;
+        }
+        heads[bucket] = index;
+    }
+
+    private void unlink(int index) {
+        if (previous[index] >= 0) {
+            next[previous[index]] = next[index];
+        } else {
+            heads[priorities[index] % range] = next[index];
+        }
+        if (next[index] >= 0) {
+            previous[next[index]] = previous[index];
+        }
+    }
+}
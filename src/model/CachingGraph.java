@@ -0,0 +1,237 @@
+package model;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Decorator that remembers dijkstra(start) per start vertex. The cache is
+// least-recently-used and bounded by a number of trees or by their estimated
+// size in bytes. Every mutation of the graph drops all cached trees, and the
+// trees handed out are unmodifiable since later callers share them.
+//
+// The cache and its counters are guarded by this object's monitor, while the
+// searches themselves run outside it, so concurrent readers only wait for
+// each other on the bookkeeping. A tree is cached only if no mutation
+// invalidated the cache while it was being computed.
+public class CachingGraph<T> implements IGraph<T> {
+    // A HashMap entry plus its boxed key, Pair and boxed distance.
+    static final long BYTES_PER_VERTEX = 112;
+
+    private final IGraph<T> graph;
+    private final int maxEntries;
+    private final long maxBytes;
+    private final LinkedHashMap<T, Map<T, Pair<Integer, T>>> trees = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long generation;
+
+    private CachingGraph(IGraph<T> graph, int maxEntries, long maxBytes) {
+        if (maxEntries < 0 || maxBytes < 0) {
+            throw new IllegalArgumentException("Cache bounds must not be negative");
+        }
+        this.graph = graph;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    public static <T> CachingGraph<T> withMaxEntries(IGraph<T> graph, int maxEntries) {
+        return new CachingGraph<>(graph, maxEntries, Long.MAX_VALUE);
+    }
+
+    public static <T> CachingGraph<T> withMaxBytes(IGraph<T> graph, long maxBytes) {
+        return new CachingGraph<>(graph, Integer.MAX_VALUE, maxBytes);
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    public synchronized int getCachedTrees() {
+        return trees.size();
+    }
+
+    public synchronized long getCachedBytes() {
+        return bytes;
+    }
+
+    public synchronized void invalidate() {
+        trees.clear();
+        bytes = 0;
+        generation++;
+    }
+
+    @Override
+    public Map<T, Pair<Integer, T>> dijkstra(T start) {
+        long seen;
+        synchronized (this) {
+            Map<T, Pair<Integer, T>> tree = trees.get(start);
+            if (tree != null) {
+                hits++;
+                return tree;
+            }
+            misses++;
+            seen = generation;
+        }
+        Map<T, Pair<Integer, T>> tree = Collections.unmodifiableMap(graph.dijkstra(start));
+        long size = estimateBytes(tree);
+        if (maxEntries == 0 || size > maxBytes) {
+            return tree;
+        }
+        synchronized (this) {
+            if (seen == generation) {
+                cache(start, tree, size);
+            }
+        }
+        return tree;
+    }
+
+    private void cache(T start, Map<T, Pair<Integer, T>> tree, long size) {
+        Map<T, Pair<Integer, T>> previous = trees.put(start, tree);
+        if (previous != null) {
+            bytes -= estimateBytes(previous);
+        }
+        bytes += size;
+
+        Iterator<Map<T, Pair<Integer, T>>> eldest = trees.values().iterator();
+        while (trees.size() > maxEntries || bytes > maxBytes) {
+            bytes -= estimateBytes(eldest.next());
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    private static long estimateBytes(Map<?, ?> tree) {
+        return tree.size() * BYTES_PER_VERTEX;
+    }
+
+    @Override
+    public void addVertex(T vertex) {
+        boolean known;
+        long seen;
+        synchronized (this) {
+            known = knows(vertex);
+            seen = generation;
+        }
+        graph.addVertex(vertex);
+        synchronized (this) {
+            if (!known || seen != generation) {
+                invalidate();
+            }
+        }
+    }
+
+    // Trees hold every vertex of the graph they were computed on, so when the
+    // cached trees all know the vertex it already exists.
+    private boolean knows(T vertex) {
+        if (trees.isEmpty()) {
+            return false;
+        }
+        for (Map<T, Pair<Integer, T>> tree : trees.values()) {
+            if (!tree.containsKey(vertex)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void addEdge(T source, T destination, int weight) {
+        graph.addEdge(source, destination, weight);
+        invalidate();
+    }
+
+    @Override
+    public void removeVertex(T value) {
+        graph.removeVertex(value);
+        invalidate();
+    }
+
+    @Override
+    public void removeEdge(T source, T destination) {
+        graph.removeEdge(source, destination);
+        invalidate();
+    }
+
+    @Override
+    public void clear() {
+        graph.clear();
+        invalidate();
+    }
+
+    @Override
+    public FrozenGraph<T> freeze() {
+        return graph.freeze();
+    }
+
+    @Override
+    public List<T> getVertices() {
+        return graph.getVertices();
+    }
+
+    @Override
+    public List<T> getNeighbors(T vertex) {
+        return graph.getNeighbors(vertex);
+    }
+
+    @Override
+    public List<T> bfs(T start) {
+        return graph.bfs(start);
+    }
+
+    @Override
+    public void dfs(T start) {
+        graph.dfs(start);
+    }
+
+    @Override
+    public boolean bfs(T start, Visitor<T> visitor) {
+        return graph.bfs(start, visitor);
+    }
+
+    @Override
+    public boolean dfs(T start, Visitor<T> visitor) {
+        return graph.dfs(start, visitor);
+    }
+
+    @Override
+    public Map<T, Pair<Integer, T>> shortestPath(T source, T target, Heuristic<T> heuristic) {
+        return graph.shortestPath(source, target, heuristic);
+    }
+
+    @Override
+    public Map<T, Pair<Integer, T>> bidirectionalDijkstra(T source, T target) {
+        return graph.bidirectionalDijkstra(source, target);
+    }
+
+    @Override
+    public Map<T, Map<T, Integer>> floydWarshall() {
+        return graph.floydWarshall();
+    }
+
+    @Override
+    public Map<T, T> primMST() {
+        return graph.primMST();
+    }
+
+    @Override
+    public List<Edge<T>> kruskalMST() {
+        return graph.kruskalMST();
+    }
+
+    @Override
+    public List<Edge<T>> boruvkaMST() {
+        return graph.boruvkaMST();
+    }
+}
@@ -0,0 +1,15 @@
+package model;
+
+// Cell values of a maze addressed by vertex id row * numCols + col, so grid
+// graphs can read from a Java matrix or straight from a mapped file.
+public interface CellGrid {
+    int getNumRows();
+
+    int getNumCols();
+
+    int get(int cell);
+
+    static CellGrid of(int[][] matrix) {
+        return new ArrayCellGrid(matrix);
+    }
+}
@@ -0,0 +1,71 @@
+package model;
+
+import java.util.Arrays;
+
+// Component label of every vertex, found by joining the ends of every arc in
+// an IntDisjointSet. Two vertices reach each other exactly when their labels
+// match, provided every arc has a reverse arc, as in grid mazes where open
+// neighbors are mutual.
+public final class ComponentIndex {
+    private final int[] labels;
+    private final int count;
+
+    private ComponentIndex(int[] labels, int count) {
+        this.labels = labels;
+        this.count = count;
+    }
+
+    public static ComponentIndex of(IntGraph graph) {
+        int n = graph.capacity();
+        IntDisjointSet sets = new IntDisjointSet(n);
+        for (int u = 0; u < n; u++) {
+            if (graph.containsVertex(u)) {
+                for (int e = graph.firstEdge(u); e >= 0; e = graph.nextEdge(u, e)) {
+                    sets.union(u, graph.target(u, e));
+                }
+            }
+        }
+        return label(sets, graph);
+    }
+
+    // Labels each element of the sets by its set, numbered in order of the
+    // set's lowest element.
+    public static ComponentIndex of(IntDisjointSet sets) {
+        return label(sets, null);
+    }
+
+    // Elements that are not vertices of the graph, when there is one, get -1.
+    private static ComponentIndex label(IntDisjointSet sets, IntGraph graph) {
+        int n = sets.size();
+        int[] labels = new int[n];
+        int[] rootLabels = new int[n];
+        Arrays.fill(rootLabels, -1);
+        int count = 0;
+        for (int x = 0; x < n; x++) {
+            if (graph != null && !graph.containsVertex(x)) {
+                labels[x] = -1;
+                continue;
+            }
+            int root = sets.find(x);
+            if (rootLabels[root] < 0) {
+                rootLabels[root] = count++;
+            }
+            labels[x] = rootLabels[root];
+        }
+        return new ComponentIndex(labels, count);
+    }
+
+    // -1 for ids that are not vertices.
+    public int component(int vertex) {
+        return vertex >= 0 && vertex < labels.length ? labels[vertex] : -1;
+    }
+
+    public boolean connected(int u, int v) {
+        int label = component(u);
+        return label >= 0 && label == component(v);
+    }
+
+    public int count() {
+        return count;
+    }
+}
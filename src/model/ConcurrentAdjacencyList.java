@@ -0,0 +1,333 @@
+package model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Adjacency list that writers can change while searches are running. Each
+// vertex keeps its outgoing and incoming arcs in concurrent maps, so readers
+// never lock; a search sees every arc that was in place for its whole run
+// and may or may not see the ones changed meanwhile.
+//
+// Writers lock the stripes of both endpoints, lower stripe first. An arc
+// and its incoming mirror therefore change together, and removeVertex can
+// drop a vertex without racing an addEdge that points at it.
+public class ConcurrentAdjacencyList<T> implements IGraph<T> {
+    private static final int STRIPES = 64;
+
+    private final ConcurrentHashMap<T, ConcurrentHashMap<T, Integer>> outgoing = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<T, ConcurrentHashMap<T, Integer>> incoming = new ConcurrentHashMap<>();
+    private final Object[] stripes = new Object[STRIPES];
+
+    public ConcurrentAdjacencyList() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Object();
+        }
+    }
+
+    private int stripe(T vertex) {
+        int h = vertex.hashCode() * 0x9E3779B9;
+        return h >>> 26;
+    }
+
+    @Override
+    public void addVertex(T vertex) {
+        synchronized (stripes[stripe(vertex)]) {
+            addVertexLocked(vertex);
+        }
+    }
+
+    private void addVertexLocked(T vertex) {
+        outgoing.computeIfAbsent(vertex, v -> new ConcurrentHashMap<>());
+        incoming.computeIfAbsent(vertex, v -> new ConcurrentHashMap<>());
+    }
+
+    @Override
+    public void addEdge(T source, T destination, int weight) {
+        int first = stripe(source);
+        int second = stripe(destination);
+        synchronized (stripes[Math.min(first, second)]) {
+            synchronized (stripes[Math.max(first, second)]) {
+                addVertexLocked(source);
+                addVertexLocked(destination);
+                if (outgoing.get(source).putIfAbsent(destination, weight) == null) {
+                    incoming.get(destination).put(source, weight);
+                }
+            }
+        }
+    }
+
+    @Override
+    public List<T> getVertices() {
+        return new ArrayList<>(outgoing.keySet());
+    }
+
+    @Override
+    public List<T> getNeighbors(T vertex) {
+        Map<T, Integer> arcs = outgoing.get(vertex);
+        if (arcs == null) {
+            return Collections.emptyList();
+        }
+        return new ArrayList<>(arcs.keySet());
+    }
+
+    List<T> getPredecessors(T vertex) {
+        Map<T, Integer> arcs = incoming.get(vertex);
+        if (arcs == null) {
+            return Collections.emptyList();
+        }
+        return new ArrayList<>(arcs.keySet());
+    }
+
+    @Override
+    public List<T> bfs(T start) {
+        if (!outgoing.containsKey(start))
+            return null;
+        List<T> bfs = new ArrayList<>();
+        bfs(start, bfs::add);
+        return bfs;
+    }
+
+    @Override
+    public boolean bfs(T start, Visitor<T> visitor) {
+        if (!outgoing.containsKey(start))
+            return false;
+        Set<T> visited = new HashSet<>();
+        Queue<T> queue = new ArrayDeque<>();
+        visited.add(start);
+        queue.add(start);
+
+        while (!queue.isEmpty()) {
+            T current = queue.poll();
+            if (!visitor.visit(current)) {
+                return true;
+            }
+            Map<T, Integer> arcs = outgoing.get(current);
+            if (arcs == null) {
+                continue;
+            }
+            for (T neighbor : arcs.keySet()) {
+                if (visited.add(neighbor)) {
+                    queue.add(neighbor);
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void dfs(T start) {
+        dfs(start, vertex -> {
+            System.out.print(vertex + " ");
+            return true;
+        });
+    }
+
+    @Override
+    public boolean dfs(T start, Visitor<T> visitor) {
+        if (!outgoing.containsKey(start))
+            return false;
+        Set<T> visited = new HashSet<>();
+        Deque<T> stack = new ArrayDeque<>();
+        stack.push(start);
+
+        while (!stack.isEmpty()) {
+            T current = stack.pop();
+            if (!visited.add(current))
+                continue;
+            if (!visitor.visit(current)) {
+                return true;
+            }
+
+            Map<T, Integer> arcs = outgoing.get(current);
+            if (arcs == null) {
+                continue;
+            }
+            for (T neighbor : arcs.keySet()) {
+                if (!visited.contains(neighbor)) {
+                    stack.push(neighbor);
+                }
+            }
+        }
+        return false;
+    }
+
+    // Incoming arcs are dropped one source at a time, each under that source's
+    // stripe, until none are left while the vertex's own stripe is held.
+    @Override
+    public void removeVertex(T value) {
+        int own = stripe(value);
+        while (true) {
+            Map<T, Integer> sources = incoming.get(value);
+            if (sources == null) {
+                return;
+            }
+            for (T source : new ArrayList<>(sources.keySet())) {
+                removeArc(source, value);
+            }
+            synchronized (stripes[own]) {
+                sources = incoming.get(value);
+                if (sources == null) {
+                    return;
+                }
+                if (sources.isEmpty()) {
+                    for (T target : outgoing.get(value).keySet()) {
+                        Map<T, Integer> mirror = incoming.get(target);
+                        if (mirror != null) {
+                            mirror.remove(value);
+                        }
+                    }
+                    outgoing.remove(value);
+                    incoming.remove(value);
+                    return;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void removeEdge(T source, T destination) {
+        removeArc(source, destination);
+        removeArc(destination, source);
+    }
+
+    private void removeArc(T source, T destination) {
+        int first = stripe(source);
+        int second = stripe(destination);
+        synchronized (stripes[Math.min(first, second)]) {
+            synchronized (stripes[Math.max(first, second)]) {
+                Map<T, Integer> arcs = outgoing.get(source);
+                if (arcs != null && arcs.remove(destination) != null) {
+                    incoming.get(destination).remove(source);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (T vertex : new ArrayList<>(outgoing.keySet())) {
+            removeVertex(vertex);
+        }
+    }
+
+    // Runs on the vertices present when it starts; arcs to vertices added
+    // later are ignored.
+    @Override
+    public Map<T, Pair<Integer, T>> dijkstra(T start) {
+        if (!outgoing.containsKey(start))
+            return new HashMap<>();
+        VertexIndex<T> index = new VertexIndex<>(new ArrayList<>(outgoing.keySet()));
+        int n = index.size();
+        int[] distances = new int[n];
+        int[] previous = new int[n];
+        boolean[] visited = new boolean[n];
+        IndexedMinHeap queue = new IndexedMinHeap(n);
+
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        Arrays.fill(previous, -1);
+
+        int startIndex = index.indexOf(start);
+        if (startIndex < 0) {
+            return new HashMap<>();
+        }
+        distances[startIndex] = 0;
+        queue.insert(startIndex, 0);
+
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+            visited[current] = true;
+            Map<T, Integer> arcs = outgoing.get(index.get(current));
+            if (arcs == null) {
+                continue;
+            }
+
+            for (Map.Entry<T, Integer> arc : arcs.entrySet()) {
+                int neighbor = index.indexOf(arc.getKey());
+                if (neighbor < 0) {
+                    continue;
+                }
+                int distanceToNeighbor = distances[current] + arc.getValue();
+                if (distanceToNeighbor < distances[neighbor]) {
+                    distances[neighbor] = distanceToNeighbor;
+                    previous[neighbor] = current;
+                    if (queue.contains(neighbor)) {
+                        queue.decreaseKey(neighbor, distanceToNeighbor);
+                    } else if (!visited[neighbor]) {
+                        queue.insert(neighbor, distanceToNeighbor);
+                    }
+                }
+            }
+        }
+
+        Map<T, Pair<Integer, T>> result = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            result.put(index.get(i), new Pair<>(distances[i], previous[i] < 0 ? null : index.get(previous[i])));
+        }
+        return result;
+    }
+
+    // The remaining algorithms run on a copy taken when they start, so
+    // writers that keep going cannot change the graph under them.
+    public AdjacencyMatrix<T> snapshot() {
+        AdjacencyMatrix<T> copy = new AdjacencyMatrix<>();
+        for (Map.Entry<T, ConcurrentHashMap<T, Integer>> vertex : outgoing.entrySet()) {
+            copy.addVertex(vertex.getKey());
+            for (Map.Entry<T, Integer> arc : vertex.getValue().entrySet()) {
+                copy.addEdge(vertex.getKey(), arc.getKey(), arc.getValue());
+            }
+        }
+        return copy;
+    }
+
+    @Override
+    public FrozenGraph<T> freeze() {
+        FrozenGraph.Builder<T> builder = new FrozenGraph.Builder<>();
+        for (Map.Entry<T, ConcurrentHashMap<T, Integer>> vertex : outgoing.entrySet()) {
+            builder.addVertex(vertex.getKey());
+            for (Map.Entry<T, Integer> arc : vertex.getValue().entrySet()) {
+                builder.addEdge(vertex.getKey(), arc.getKey(), arc.getValue());
+            }
+        }
+        return builder.build();
+    }
+
+    @Override
+    public Map<T, Pair<Integer, T>> shortestPath(T source, T target, Heuristic<T> heuristic) {
+        return snapshot().shortestPath(source, target, heuristic);
+    }
+
+    @Override
+    public Map<T, Pair<Integer, T>> bidirectionalDijkstra(T source, T target) {
+        return snapshot().bidirectionalDijkstra(source, target);
+    }
+
+    @Override
+    public Map<T, Map<T, Integer>> floydWarshall() {
+        return snapshot().floydWarshall();
+    }
+
+    @Override
+    public Map<T, T> primMST() {
+        return snapshot().primMST();
+    }
+
+    @Override
+    public List<Edge<T>> kruskalMST() {
+        return snapshot().kruskalMST();
+    }
+
+    @Override
+    public List<Edge<T>> boruvkaMST() {
+        return snapshot().boruvkaMST();
+    }
+}
@@ -0,0 +1,489 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Compressed sparse row graph over non-negative int ids. Edges are staged in
+// flat arrays while the graph is being built and packed into offsets/targets/
+// weights on the first read, so a built graph holds no per-edge objects.
+public class CsrGraph implements IGraph<Integer>, IntGraph {
+    private BitSet vertices;
+    private int capacity;
+
+    private int[] edgeSources;
+    private int[] edgeTargets;
+    private int[] edgeWeights;
+    private int edgeCount;
+    private int minWeight;
+    private int maxWeight;
+
+    private int[] offsets;
+    private int[] targets;
+    private int[] weights;
+    private CsrGraph reversed;
+
+    public CsrGraph() {
+        this(16, 16);
+    }
+
+    public CsrGraph(int expectedVertices, int expectedEdges) {
+        vertices = new BitSet(Math.max(expectedVertices, 1));
+        edgeSources = new int[Math.max(expectedEdges, 1)];
+        edgeTargets = new int[edgeSources.length];
+        edgeWeights = new int[edgeSources.length];
+    }
+
+    public static CsrGraph copyOf(IntGraph graph) {
+        int capacity = graph.capacity();
+        CsrGraph copy = new CsrGraph(capacity, 0);
+        copy.capacity = capacity;
+        copy.offsets = new int[capacity + 1];
+        int count = 0;
+        for (int v = 0; v < capacity; v++) {
+            if (graph.containsVertex(v)) {
+                copy.vertices.set(v);
+                for (int e = graph.firstEdge(v); e >= 0; e = graph.nextEdge(v, e)) {
+                    count++;
+                }
+            }
+            copy.offsets[v + 1] = count;
+        }
+        copy.targets = new int[count];
+        copy.weights = new int[count];
+        copy.edgeCount = count;
+        for (int v = 0, i = 0; v < capacity; v++) {
+            if (graph.containsVertex(v)) {
+                for (int e = graph.firstEdge(v); e >= 0; e = graph.nextEdge(v, e)) {
+                    copy.targets[i] = graph.target(v, e);
+                    copy.weights[i] = graph.weight(v, e);
+                    copy.minWeight = Math.min(copy.minWeight, copy.weights[i]);
+                    copy.maxWeight = Math.max(copy.maxWeight, copy.weights[i]);
+                    i++;
+                }
+            }
+        }
+        copy.edgeSources = null;
+        copy.edgeTargets = null;
+        copy.edgeWeights = null;
+        return copy;
+    }
+
+    public void addVertex(int vertex) {
+        if (vertex < 0) {
+            throw new IllegalArgumentException("Vertex ids must be non-negative: " + vertex);
+        }
+        if (vertices.get(vertex)) {
+            return;
+        }
+        vertices.set(vertex);
+        reversed = null;
+        if (vertex >= capacity) {
+            unpack();
+            capacity = vertex + 1;
+        }
+    }
+
+    public void addEdge(int source, int destination, int weight) {
+        addVertex(source);
+        addVertex(destination);
+        unpack();
+        if (edgeCount == edgeSources.length) {
+            int length = edgeCount * 2;
+            edgeSources = Arrays.copyOf(edgeSources, length);
+            edgeTargets = Arrays.copyOf(edgeTargets, length);
+            edgeWeights = Arrays.copyOf(edgeWeights, length);
+        }
+        edgeSources[edgeCount] = source;
+        edgeTargets[edgeCount] = destination;
+        edgeWeights[edgeCount] = weight;
+        edgeCount++;
+        minWeight = Math.min(minWeight, weight);
+        maxWeight = Math.max(maxWeight, weight);
+    }
+
+    public void removeVertex(int vertex) {
+        if (!containsVertex(vertex)) {
+            return;
+        }
+        unpack();
+        int kept = 0;
+        for (int i = 0; i < edgeCount; i++) {
+            if (edgeSources[i] != vertex && edgeTargets[i] != vertex) {
+                moveEdge(i, kept++);
+            }
+        }
+        edgeCount = kept;
+        vertices.clear(vertex);
+    }
+
+    public void removeEdge(int source, int destination) {
+        if (!containsVertex(source) || !containsVertex(destination)) {
+            return;
+        }
+        unpack();
+        int kept = 0;
+        for (int i = 0; i < edgeCount; i++) {
+            int s = edgeSources[i];
+            int t = edgeTargets[i];
+            if ((s != source || t != destination) && (s != destination || t != source)) {
+                moveEdge(i, kept++);
+            }
+        }
+        edgeCount = kept;
+    }
+
+    private void moveEdge(int from, int to) {
+        edgeSources[to] = edgeSources[from];
+        edgeTargets[to] = edgeTargets[from];
+        edgeWeights[to] = edgeWeights[from];
+    }
+
+    public int vertexCount() {
+        return vertices.cardinality();
+    }
+
+    public int edgeCount() {
+        pack();
+        return offsets[capacity];
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public boolean containsVertex(int vertex) {
+        return vertex >= 0 && vertices.get(vertex);
+    }
+
+    @Override
+    public int firstEdge(int vertex) {
+        pack();
+        return offsets[vertex] < offsets[vertex + 1] ? offsets[vertex] : -1;
+    }
+
+    @Override
+    public int nextEdge(int vertex, int edge) {
+        return edge + 1 < offsets[vertex + 1] ? edge + 1 : -1;
+    }
+
+    @Override
+    public int target(int vertex, int edge) {
+        return targets[edge];
+    }
+
+    @Override
+    public int weight(int vertex, int edge) {
+        return weights[edge];
+    }
+
+    @Override
+    public int minWeight() {
+        return minWeight;
+    }
+
+    @Override
+    public int maxWeight() {
+        return maxWeight;
+    }
+
+    // Cached until the next mutation of this graph, so treat it as read-only.
+    @Override
+    public CsrGraph reverse() {
+        if (reversed != null) {
+            return reversed;
+        }
+        pack();
+        reversed = new CsrGraph(capacity, 0);
+        reversed.vertices.or(vertices);
+        reversed.capacity = capacity;
+        reversed.offsets = new int[capacity + 1];
+        reversed.targets = new int[edgeCount];
+        reversed.weights = new int[edgeCount];
+        reversed.edgeCount = edgeCount;
+        reversed.minWeight = minWeight;
+        reversed.maxWeight = maxWeight;
+        reversed.edgeSources = null;
+        reversed.edgeTargets = null;
+        reversed.edgeWeights = null;
+
+        for (int e = 0; e < edgeCount; e++) {
+            reversed.offsets[targets[e] + 1]++;
+        }
+        for (int v = 0; v < capacity; v++) {
+            reversed.offsets[v + 1] += reversed.offsets[v];
+        }
+        int[] next = Arrays.copyOf(reversed.offsets, capacity);
+        for (int v = 0; v < capacity; v++) {
+            for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                int position = next[targets[e]]++;
+                reversed.targets[position] = v;
+                reversed.weights[position] = weights[e];
+            }
+        }
+        return reversed;
+    }
+
+    // Counting sort of the staged edges by source. Duplicate arcs keep the
+    // first weight added, as Node.addNeighbor does.
+    private void pack() {
+        if (edgeSources == null) {
+            return;
+        }
+        int[] starts = new int[capacity + 1];
+        for (int i = 0; i < edgeCount; i++) {
+            starts[edgeSources[i] + 1]++;
+        }
+        for (int v = 0; v < capacity; v++) {
+            starts[v + 1] += starts[v];
+        }
+        int[] next = Arrays.copyOf(starts, capacity);
+        int[] sortedTargets = new int[edgeCount];
+        int[] sortedWeights = new int[edgeCount];
+        for (int i = 0; i < edgeCount; i++) {
+            int position = next[edgeSources[i]]++;
+            sortedTargets[position] = edgeTargets[i];
+            sortedWeights[position] = edgeWeights[i];
+        }
+        edgeSources = null;
+        edgeTargets = null;
+        edgeWeights = null;
+
+        int[] seen = new int[capacity];
+        offsets = new int[capacity + 1];
+        int count = 0;
+        for (int v = 0; v < capacity; v++) {
+            for (int i = starts[v]; i < starts[v + 1]; i++) {
+                int destination = sortedTargets[i];
+                if (seen[destination] != v + 1) {
+                    seen[destination] = v + 1;
+                    sortedTargets[count] = destination;
+                    sortedWeights[count] = sortedWeights[i];
+                    count++;
+                }
+            }
+            offsets[v + 1] = count;
+        }
+        targets = count == sortedTargets.length ? sortedTargets : Arrays.copyOf(sortedTargets, count);
+        weights = count == sortedWeights.length ? sortedWeights : Arrays.copyOf(sortedWeights, count);
+        edgeCount = count;
+    }
+
+    private void unpack() {
+        reversed = null;
+        if (edgeSources != null) {
+            return;
+        }
+        int length = Math.max(edgeCount, 16);
+        edgeSources = new int[length];
+        edgeTargets = Arrays.copyOf(targets, length);
+        edgeWeights = Arrays.copyOf(weights, length);
+        for (int v = 0; v < capacity; v++) {
+            Arrays.fill(edgeSources, offsets[v], offsets[v + 1], v);
+        }
+        offsets = null;
+        targets = null;
+        weights = null;
+    }
+
+    @Override
+    public void addVertex(Integer vertex) {
+        addVertex(vertex.intValue());
+    }
+
+    @Override
+    public void addEdge(Integer source, Integer destination, int weight) {
+        addEdge(source.intValue(), destination.intValue(), weight);
+    }
+
+    @Override
+    public List<Integer> getVertices() {
+        List<Integer> list = new ArrayList<>(vertexCount());
+        for (int v = vertices.nextSetBit(0); v >= 0; v = vertices.nextSetBit(v + 1)) {
+            list.add(v);
+        }
+        return list;
+    }
+
+    @Override
+    public List<Integer> getNeighbors(Integer vertex) {
+        if (!containsVertex(vertex)) {
+            return Collections.emptyList();
+        }
+        List<Integer> neighbors = new ArrayList<>();
+        for (int e = firstEdge(vertex); e >= 0; e = nextEdge(vertex, e)) {
+            neighbors.add(targets[e]);
+        }
+        return neighbors;
+    }
+
+    @Override
+    public List<Integer> bfs(Integer start) {
+        if (!containsVertex(start))
+            return null;
+        int[] order = new int[capacity];
+        int count = IntGraphSearch.bfs(this, start, order);
+        List<Integer> bfs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            bfs.add(order[i]);
+        }
+        return bfs;
+    }
+
+    @Override
+    public boolean bfs(Integer start, Visitor<Integer> visitor) {
+        return new IntTraversal(capacity()).bfs(this, start, visitor::visit);
+    }
+
+    @Override
+    public boolean dfs(Integer start, Visitor<Integer> visitor) {
+        return new IntTraversal(capacity()).dfs(this, start, visitor::visit);
+    }
+
+    @Override
+    public void dfs(Integer start) {
+        if (!containsVertex(start))
+            return;
+        int[] order = new int[capacity];
+        int count = IntGraphSearch.dfs(this, start, order);
+        for (int i = 0; i < count; i++) {
+            System.out.print(order[i] + " ");
+        }
+    }
+
+    @Override
+    public void removeVertex(Integer value) {
+        removeVertex(value.intValue());
+    }
+
+    @Override
+    public void removeEdge(Integer source, Integer destination) {
+        removeEdge(source.intValue(), destination.intValue());
+    }
+
+    @Override
+    public void clear() {
+        vertices.clear();
+        reversed = null;
+        capacity = 0;
+        edgeSources = new int[16];
+        edgeTargets = new int[16];
+        edgeWeights = new int[16];
+        edgeCount = 0;
+        minWeight = 0;
+        maxWeight = 0;
+        offsets = null;
+        targets = null;
+        weights = null;
+    }
+
+    @Override
+    public Map<Integer, Pair<Integer, Integer>> dijkstra(Integer start) {
+        if (!containsVertex(start))
+            return new HashMap<>();
+        int[] previous = new int[capacity];
+        int[] distances = IntGraphSearch.dijkstra(this, start, previous);
+
+        Map<Integer, Pair<Integer, Integer>> result = new HashMap<>();
+        for (int v = vertices.nextSetBit(0); v >= 0; v = vertices.nextSetBit(v + 1)) {
+            result.put(v, new Pair<>(distances[v], previous[v] < 0 ? null : previous[v]));
+        }
+        return result;
+    }
+
+    @Override
+    public Map<Integer, Pair<Integer, Integer>> shortestPath(Integer source, Integer target,
+            Heuristic<Integer> heuristic) {
+        if (!containsVertex(source))
+            return new HashMap<>();
+        int[] previous = new int[capacity];
+        int[] distances = IntGraphSearch.aStar(this, source, target, previous, IntHeuristic.of(heuristic));
+
+        Map<Integer, Pair<Integer, Integer>> result = new HashMap<>();
+        for (int v = 0; v < capacity; v++) {
+            if (distances[v] != Integer.MAX_VALUE) {
+                result.put(v, new Pair<>(distances[v], previous[v] < 0 ? null : previous[v]));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Map<Integer, Pair<Integer, Integer>> bidirectionalDijkstra(Integer source, Integer target) {
+        int[] previous = new int[capacity];
+        int cost = IntGraphSearch.bidirectionalDijkstra(this, reverse(), source, target, previous);
+        if (cost == Integer.MAX_VALUE) {
+            return new HashMap<>();
+        }
+        return IntGraphSearch.pathLabels(this, target, previous);
+    }
+
+    @Override
+    public Map<Integer, Map<Integer, Integer>> floydWarshall() {
+        VertexIndex<Integer> index = new VertexIndex<>(getVertices());
+        int n = index.size();
+        int[] distances = FloydWarshall.initialDistances(n);
+
+        for (int i = 0; i < n; i++) {
+            int vertex = index.get(i);
+            for (int e = firstEdge(vertex); e >= 0; e = nextEdge(vertex, e)) {
+                FloydWarshall.addEdge(distances, n, i, index.indexOf(targets[e]), weights[e]);
+            }
+        }
+
+        FloydWarshall.run(distances, n);
+        return new DistanceTable<>(index, distances);
+    }
+
+    @Override
+    public Map<Integer, Integer> primMST() {
+        Map<Integer, Integer> result = new HashMap<>();
+        if (vertices.isEmpty()) {
+            return result;
+        }
+
+        int[] parent = new int[capacity];
+        IntGraphSearch.prim(this, vertices.nextSetBit(0), parent);
+
+        for (int v = vertices.nextSetBit(0); v >= 0; v = vertices.nextSetBit(v + 1)) {
+            result.put(v, parent[v] < 0 ? null : parent[v]);
+        }
+        return result;
+    }
+
+    @Override
+    public List<Edge<Integer>> kruskalMST() {
+        return spanningForest(FilterKruskal::run);
+    }
+
+    @Override
+    public List<Edge<Integer>> boruvkaMST() {
+        return spanningForest(Boruvka::run);
+    }
+
+    private List<Edge<Integer>> spanningForest(SpanningForest engine) {
+        pack();
+        int m = offsets[capacity];
+        int[] sources = new int[m];
+        for (int v = 0; v < capacity; v++) {
+            Arrays.fill(sources, offsets[v], offsets[v + 1], v);
+        }
+
+        List<Edge<Integer>> mst = new ArrayList<>();
+        for (int e : engine.run(capacity, sources, targets, weights, m)) {
+            mst.add(new Edge<>(new Node<>(sources[e]), new Node<>(targets[e]), weights[e]));
+        }
+        return mst;
+    }
+
+    @Override
+    public FrozenGraph<Integer> freeze() {
+        return FrozenGraph.copyOf(this);
+    }
+}
@@ -0,0 +1,597 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Adjacency matrix for small, dense graphs. Vertices are interned to ids and
+// weights live in one row-major capacity * capacity array holding NO_EDGE
+// where there is no arc. Every row and column also has a bitset of its arcs,
+// so walking a vertex's arcs skips 64 absent ones per word.
+//
+// Memory grows with the square of the vertex count; use AdjacencyList or
+// CsrGraph for sparse graphs such as mazes of more than a few thousand cells.
+// Ids of removed vertices are reused by the next ones added.
+public class DenseAdjacencyMatrix<T> implements IGraph<T>, IntGraph {
+    public static final int NO_EDGE = Integer.MIN_VALUE;
+    // Largest multiple of 64 whose square still fits an int array index.
+    public static final int MAX_VERTICES = 46336;
+
+    private final VertexInterner<T> ids = new VertexInterner<>();
+    private int[] weights;
+    private long[] rows;
+    private long[] columns;
+    private int capacity;
+    private int words;
+    private int minWeight;
+    private int maxWeight;
+    private volatile int heapArity = IndexedMinHeap.DEFAULT_ARITY;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final IntGraph reversed = new Reverse();
+
+    public DenseAdjacencyMatrix() {
+        this(64);
+    }
+
+    public DenseAdjacencyMatrix(int expectedVertices) {
+        if (expectedVertices > MAX_VERTICES) {
+            throw new IllegalArgumentException(
+                    "A dense matrix holds at most " + MAX_VERTICES + " vertices: " + expectedVertices);
+        }
+        allocate(Math.max(64, (expectedVertices + 63) & ~63));
+    }
+
+    private void allocate(int newCapacity) {
+        capacity = newCapacity;
+        words = newCapacity >>> 6;
+        weights = new int[Math.multiplyExact(newCapacity, newCapacity)];
+        Arrays.fill(weights, NO_EDGE);
+        rows = new long[newCapacity * words];
+        columns = new long[newCapacity * words];
+    }
+
+    private void grow() {
+        int[] oldWeights = weights;
+        long[] oldRows = rows;
+        long[] oldColumns = columns;
+        int oldCapacity = capacity;
+        int oldWords = words;
+
+        allocate(Math.min(oldCapacity * 2, MAX_VERTICES));
+        for (int v = 0; v < oldCapacity; v++) {
+            System.arraycopy(oldWeights, v * oldCapacity, weights, v * capacity, oldCapacity);
+            System.arraycopy(oldRows, v * oldWords, rows, v * words, oldWords);
+            System.arraycopy(oldColumns, v * oldWords, columns, v * words, oldWords);
+        }
+    }
+
+    private int intern(T vertex) {
+        int v = ids.idOf(vertex);
+        if (v >= 0) {
+            return v;
+        }
+        if (ids.size() == capacity) {
+            if (capacity == MAX_VERTICES) {
+                throw new IllegalStateException("A dense matrix holds at most " + MAX_VERTICES + " vertices");
+            }
+            grow();
+        }
+        return ids.intern(vertex);
+    }
+
+    private T value(int v) {
+        return ids.value(v);
+    }
+
+    // Position of the first set bit at or after from in the bitset starting
+    // at base, or -1.
+    private int nextSetBit(long[] bits, int base, int from) {
+        if (from >= capacity) {
+            return -1;
+        }
+        int word = from >>> 6;
+        long current = bits[base + word] & (-1L << from);
+        while (current == 0) {
+            if (++word == words) {
+                return -1;
+            }
+            current = bits[base + word];
+        }
+        return (word << 6) + Long.numberOfTrailingZeros(current);
+    }
+
+    public int indexOf(T vertex) {
+        lock.readLock().lock();
+        try {
+            return ids.idOf(vertex);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getWeight(T source, T destination) {
+        lock.readLock().lock();
+        try {
+            int s = ids.idOf(source);
+            int t = ids.idOf(destination);
+            return s < 0 || t < 0 ? NO_EDGE : weights[s * capacity + t];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int capacity() {
+        return ids.capacity();
+    }
+
+    @Override
+    public boolean containsVertex(int vertex) {
+        return ids.contains(vertex);
+    }
+
+    // An arc's handle is its target id.
+    @Override
+    public int firstEdge(int vertex) {
+        return nextSetBit(rows, vertex * words, 0);
+    }
+
+    @Override
+    public int nextEdge(int vertex, int edge) {
+        return nextSetBit(rows, vertex * words, edge + 1);
+    }
+
+    @Override
+    public int target(int vertex, int edge) {
+        return edge;
+    }
+
+    @Override
+    public int weight(int vertex, int edge) {
+        return weights[vertex * capacity + edge];
+    }
+
+    @Override
+    public int minWeight() {
+        return minWeight;
+    }
+
+    @Override
+    public int maxWeight() {
+        return maxWeight;
+    }
+
+    @Override
+    public IntGraph reverse() {
+        return reversed;
+    }
+
+    // Walks the column bitsets, so the reverse costs nothing to keep.
+    private class Reverse implements IntGraph {
+        @Override
+        public int capacity() {
+            return ids.capacity();
+        }
+
+        @Override
+        public boolean containsVertex(int vertex) {
+            return DenseAdjacencyMatrix.this.containsVertex(vertex);
+        }
+
+        @Override
+        public int firstEdge(int vertex) {
+            return nextSetBit(columns, vertex * words, 0);
+        }
+
+        @Override
+        public int nextEdge(int vertex, int edge) {
+            return nextSetBit(columns, vertex * words, edge + 1);
+        }
+
+        @Override
+        public int target(int vertex, int edge) {
+            return edge;
+        }
+
+        @Override
+        public int weight(int vertex, int edge) {
+            return weights[edge * capacity + vertex];
+        }
+
+        @Override
+        public int minWeight() {
+            return minWeight;
+        }
+
+        @Override
+        public int maxWeight() {
+            return maxWeight;
+        }
+
+        @Override
+        public IntGraph reverse() {
+            return DenseAdjacencyMatrix.this;
+        }
+    }
+
+    @Override
+    public void addVertex(T vertex) {
+        lock.writeLock().lock();
+        try {
+            intern(vertex);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void addEdge(T source, T destination, int weight) {
+        lock.writeLock().lock();
+        try {
+            int s = intern(source);
+            int t = intern(destination);
+            int cell = s * capacity + t;
+            if ((rows[s * words + (t >>> 6)] & (1L << t)) == 0) {
+                weights[cell] = weight;
+                minWeight = Math.min(minWeight, weight);
+                maxWeight = Math.max(maxWeight, weight);
+                rows[s * words + (t >>> 6)] |= 1L << t;
+                columns[t * words + (s >>> 6)] |= 1L << s;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeArc(int s, int t) {
+        weights[s * capacity + t] = NO_EDGE;
+        rows[s * words + (t >>> 6)] &= ~(1L << t);
+        columns[t * words + (s >>> 6)] &= ~(1L << s);
+    }
+
+    @Override
+    public List<T> getVertices() {
+        lock.readLock().lock();
+        try {
+            List<T> vertices = new ArrayList<>(ids.size());
+            for (int v = ids.first(); v >= 0; v = ids.next(v)) {
+                vertices.add(value(v));
+            }
+            return vertices;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<T> getNeighbors(T vertex) {
+        lock.readLock().lock();
+        try {
+            int v = ids.idOf(vertex);
+            if (v < 0) {
+                return Collections.emptyList();
+            }
+            List<T> neighbors = new ArrayList<>();
+            for (int e = firstEdge(v); e >= 0; e = nextEdge(v, e)) {
+                neighbors.add(value(e));
+            }
+            return neighbors;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void removeVertex(T value) {
+        lock.writeLock().lock();
+        try {
+            int v = ids.remove(value);
+            if (v < 0) {
+                return;
+            }
+            for (int t = firstEdge(v); t >= 0; t = nextEdge(v, t)) {
+                removeArc(v, t);
+            }
+            for (int s = reversed.firstEdge(v); s >= 0; s = reversed.nextEdge(v, s)) {
+                removeArc(s, v);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void removeEdge(T source, T destination) {
+        lock.writeLock().lock();
+        try {
+            int s = ids.idOf(source);
+            int t = ids.idOf(destination);
+            if (s >= 0 && t >= 0) {
+                removeArc(s, t);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            ids.clear();
+            allocate(64);
+            minWeight = 0;
+            maxWeight = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<T> bfs(T start) {
+        lock.readLock().lock();
+        try {
+            int s = ids.idOf(start);
+            if (s < 0)
+                return null;
+            int[] order = new int[ids.capacity()];
+            int count = IntGraphSearch.bfs(this, s, order);
+            List<T> bfs = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                bfs.add(value(order[i]));
+            }
+            return bfs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void dfs(T start) {
+        lock.readLock().lock();
+        try {
+            int s = ids.idOf(start);
+            if (s < 0)
+                return;
+            int[] order = new int[ids.capacity()];
+            int count = IntGraphSearch.dfs(this, s, order);
+            for (int i = 0; i < count; i++) {
+                System.out.print(value(order[i]) + " ");
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean bfs(T start, Visitor<T> visitor) {
+        lock.readLock().lock();
+        try {
+            int s = ids.idOf(start);
+            return s >= 0 && new IntTraversal(ids.capacity()).bfs(this, s, v -> visitor.visit(value(v)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean dfs(T start, Visitor<T> visitor) {
+        lock.readLock().lock();
+        try {
+            int s = ids.idOf(start);
+            return s >= 0 && new IntTraversal(ids.capacity()).dfs(this, s, v -> visitor.visit(value(v)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Map<T, Pair<Integer, T>> dijkstra(T start) {
+        lock.readLock().lock();
+        try {
+            int s = ids.idOf(start);
+            if (s < 0)
+                return new HashMap<>();
+            int[] previous = new int[ids.capacity()];
+            int[] distances = IntGraphSearch.dijkstra(this, s, previous, heapArity);
+
+            Map<T, Pair<Integer, T>> result = new HashMap<>();
+            for (int v = ids.first(); v >= 0; v = ids.next(v)) {
+                result.put(value(v), new Pair<>(distances[v], previous[v] < 0 ? null : value(previous[v])));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Map<T, Pair<Integer, T>> shortestPath(T source, T target, Heuristic<T> heuristic) {
+        lock.readLock().lock();
+        try {
+            int s = ids.idOf(source);
+            int t = ids.idOf(target);
+            if (s < 0 || t < 0)
+                return new HashMap<>();
+            int[] previous = new int[ids.capacity()];
+            int[] distances = IntGraphSearch.aStar(this, s, t, previous,
+                    (vertex, goal) -> heuristic.estimate(value(vertex), value(goal)), heapArity);
+
+            Map<T, Pair<Integer, T>> result = new HashMap<>();
+            for (int v = 0; v < ids.capacity(); v++) {
+                if (distances[v] != Integer.MAX_VALUE) {
+                    result.put(value(v), new Pair<>(distances[v], previous[v] < 0 ? null : value(previous[v])));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Map<T, Pair<Integer, T>> bidirectionalDijkstra(T source, T target) {
+        lock.readLock().lock();
+        try {
+            int s = ids.idOf(source);
+            int t = ids.idOf(target);
+            Map<T, Pair<Integer, T>> result = new HashMap<>();
+            if (s < 0 || t < 0)
+                return result;
+            int[] previous = new int[ids.capacity()];
+            if (IntGraphSearch.bidirectionalDijkstra(this, reversed, s, t, previous, heapArity) == Integer.MAX_VALUE) {
+                return result;
+            }
+            for (Map.Entry<Integer, Pair<Integer, Integer>> label : IntGraphSearch.pathLabels(this, t, previous)
+                    .entrySet()) {
+                Integer before = label.getValue().getSecond();
+                result.put(value(label.getKey()),
+                        new Pair<>(label.getValue().getFirst(), before == null ? null : value(before)));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Map<T, Map<T, Integer>> floydWarshall() {
+        lock.readLock().lock();
+        try {
+            VertexIndex<T> index = new VertexIndex<>();
+            int[] compact = new int[ids.capacity()];
+            for (int v = ids.first(); v >= 0; v = ids.next(v)) {
+                compact[v] = index.add(value(v));
+            }
+            int n = index.size();
+            int[] distances = FloydWarshall.initialDistances(n);
+            for (int v = ids.first(); v >= 0; v = ids.next(v)) {
+                for (int e = firstEdge(v); e >= 0; e = nextEdge(v, e)) {
+                    FloydWarshall.addEdge(distances, n, compact[v], compact[e], weights[v * capacity + e]);
+                }
+            }
+            FloydWarshall.run(distances, n);
+            return new DistanceTable<>(index, distances);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // The O(V^2) array form of Prim, which is the right one when most pairs
+    // of vertices are joined.
+    @Override
+    public Map<T, T> primMST() {
+        lock.readLock().lock();
+        try {
+            Map<T, T> result = new HashMap<>();
+            int root = ids.first();
+            if (root < 0) {
+                return result;
+            }
+
+            int[] key = new int[ids.capacity()];
+            int[] parent = new int[ids.capacity()];
+            boolean[] mstSet = new boolean[ids.capacity()];
+            Arrays.fill(key, Integer.MAX_VALUE);
+            Arrays.fill(parent, -1);
+            key[root] = 0;
+
+            for (int count = 0; count < ids.size() - 1; count++) {
+                int u = -1;
+                for (int v = ids.first(); v >= 0; v = ids.next(v)) {
+                    if (!mstSet[v] && key[v] != Integer.MAX_VALUE && (u < 0 || key[v] < key[u])) {
+                        u = v;
+                    }
+                }
+                if (u < 0) {
+                    break;
+                }
+                mstSet[u] = true;
+
+                for (int v = firstEdge(u); v >= 0; v = nextEdge(u, v)) {
+                    int weight = weights[u * capacity + v];
+                    if (!mstSet[v] && weight < key[v]) {
+                        parent[v] = u;
+                        key[v] = weight;
+                    }
+                }
+            }
+
+            for (int v = ids.first(); v >= 0; v = ids.next(v)) {
+                result.put(value(v), parent[v] < 0 ? null : value(parent[v]));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Edge<T>> kruskalMST() {
+        return spanningForest(FilterKruskal::run);
+    }
+
+    @Override
+    public List<Edge<T>> boruvkaMST() {
+        return spanningForest(Boruvka::run);
+    }
+
+    private List<Edge<T>> spanningForest(SpanningForest engine) {
+        lock.readLock().lock();
+        try {
+            int[] sources = new int[16];
+            int[] targets = new int[16];
+            int[] arcWeights = new int[16];
+            int m = 0;
+            for (int v = ids.first(); v >= 0; v = ids.next(v)) {
+                for (int e = firstEdge(v); e >= 0; e = nextEdge(v, e)) {
+                    if (m == sources.length) {
+                        sources = Arrays.copyOf(sources, m * 2);
+                        targets = Arrays.copyOf(targets, m * 2);
+                        arcWeights = Arrays.copyOf(arcWeights, m * 2);
+                    }
+                    sources[m] = v;
+                    targets[m] = e;
+                    arcWeights[m] = weights[v * capacity + e];
+                    m++;
+                }
+            }
+
+            List<Edge<T>> mst = new ArrayList<>();
+            for (int i : engine.run(ids.capacity(), sources, targets, arcWeights, m)) {
+                mst.add(new Edge<>(new Node<>(value(sources[i])), new Node<>(value(targets[i])), arcWeights[i]));
+            }
+            return mst;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public FrozenGraph<T> freeze() {
+        lock.readLock().lock();
+        try {
+            FrozenGraph.Builder<T> builder = new FrozenGraph.Builder<>();
+            for (int v = ids.first(); v >= 0; v = ids.next(v)) {
+                builder.addVertex(value(v));
+            }
+            for (int v = ids.first(); v >= 0; v = ids.next(v)) {
+                for (int e = firstEdge(v); e >= 0; e = nextEdge(v, e)) {
+                    builder.addEdge(value(v), value(e), weights[v * capacity + e]);
+                }
+            }
+            return builder.build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void setHeapArity(int heapArity) {
+        this.heapArity = heapArity;
+    }
+}
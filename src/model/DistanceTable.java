@@ -0,0 +1,131 @@
+package model;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+// Read-only Map<T, Map<T, Integer>> view of a flat all-pairs distance array,
+// so floydWarshall results cost one int per pair instead of a HashMap entry.
+public class DistanceTable<T> extends AbstractMap<T, Map<T, Integer>> {
+    private final VertexIndex<T> index;
+    private final int[] distances;
+    private final int n;
+
+    public DistanceTable(VertexIndex<T> index, int[] distances) {
+        this.index = index;
+        this.distances = distances;
+        this.n = index.size();
+    }
+
+    public int distance(T source, T destination) {
+        int i = index.indexOf(source);
+        int j = index.indexOf(destination);
+        if (i < 0 || j < 0) {
+            throw new NoSuchElementException("Unknown vertex");
+        }
+        return distances[i * n + j];
+    }
+
+    @Override
+    public int size() {
+        return n;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return index.indexOf(key) >= 0;
+    }
+
+    @Override
+    public Map<T, Integer> get(Object key) {
+        int i = index.indexOf(key);
+        return i < 0 ? null : new Row(i);
+    }
+
+    @Override
+    public Set<Entry<T, Map<T, Integer>>> entrySet() {
+        return new AbstractSet<Entry<T, Map<T, Integer>>>() {
+            @Override
+            public int size() {
+                return n;
+            }
+
+            @Override
+            public Iterator<Entry<T, Map<T, Integer>>> iterator() {
+                return new Cursor<Map<T, Integer>>() {
+                    @Override
+                    Map<T, Integer> valueAt(int i) {
+                        return new Row(i);
+                    }
+                };
+            }
+        };
+    }
+
+    private class Row extends AbstractMap<T, Integer> {
+        private final int offset;
+
+        Row(int row) {
+            this.offset = row * n;
+        }
+
+        @Override
+        public int size() {
+            return n;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return index.indexOf(key) >= 0;
+        }
+
+        @Override
+        public Integer get(Object key) {
+            int j = index.indexOf(key);
+            return j < 0 ? null : distances[offset + j];
+        }
+
+        @Override
+        public Set<Entry<T, Integer>> entrySet() {
+            return new AbstractSet<Entry<T, Integer>>() {
+                @Override
+                public int size() {
+                    return n;
+                }
+
+                @Override
+                public Iterator<Entry<T, Integer>> iterator() {
+                    return new Cursor<Integer>() {
+                        @Override
+                        Integer valueAt(int j) {
+                            return distances[offset + j];
+                        }
+                    };
+                }
+            };
+        }
+    }
+
+    private abstract class Cursor<V> implements Iterator<Entry<T, V>> {
+        private int next;
+
+        abstract V valueAt(int i);
+
+        @Override
+        public boolean hasNext() {
+            return next < n;
+        }
+
+        @Override
+        public Entry<T, V> next() {
+            if (next >= n) {
+                throw new NoSuchElementException();
+            }
+            int i = next++;
+            return new SimpleImmutableEntry<>(index.get(i), valueAt(i));
+        }
+    }
+}
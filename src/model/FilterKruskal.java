@@ -0,0 +1,152 @@
+package model;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+// Minimum spanning forest over edges given as parallel arrays, by
+// Filter-Kruskal: partition the edges around a pivot, solve the cheaper half,
+// drop the heavier edges whose ends it has already joined and only then solve
+// what is left. On grids most heavy edges are filtered out without ever being
+// sorted. Each edge is a sort key of weight and index, so ties keep input
+// order and the result is the same as a stable sort followed by Kruskal.
+//
+// Ranges no larger than the vertex count are sorted with Arrays.parallelSort,
+// and the filter pass is split across the fork-join pool.
+public final class FilterKruskal {
+    private static final int MIN_SORT = 1 << 12;
+    private static final int FILTER_GRAIN = 1 << 14;
+
+    private final int[] sources;
+    private final int[] targets;
+    private final IntDisjointSet sets;
+    private final boolean[] keep;
+    private final int sortThreshold;
+    private final ForkJoinPool pool;
+    private final SplittableRandom random = new SplittableRandom(42);
+    private final int[] chosen;
+    private int count;
+
+    private FilterKruskal(int n, int[] sources, int[] targets, int m, ForkJoinPool pool) {
+        this.sources = sources;
+        this.targets = targets;
+        this.sets = new IntDisjointSet(n);
+        this.keep = new boolean[m];
+        this.sortThreshold = Math.max(MIN_SORT, n);
+        this.pool = pool;
+        this.chosen = new int[Math.max(0, n - 1)];
+    }
+
+    public static int[] run(int n, int[] sources, int[] targets, int[] weights, int m) {
+        return run(n, sources, targets, weights, m, ForkJoinPool.commonPool());
+    }
+
+    // Edges are sources[i] -> targets[i] with weights[i] for i < m, between
+    // vertices in [0, n). Returns the indices of the chosen edges, cheapest
+    // first.
+    public static int[] run(int n, int[] sources, int[] targets, int[] weights, int m, ForkJoinPool pool) {
+        long[] keys = new long[m];
+        for (int i = 0; i < m; i++) {
+            keys[i] = ((long) weights[i] << 32) | i;
+        }
+        FilterKruskal solver = new FilterKruskal(n, sources, targets, m, pool);
+        solver.solve(keys, 0, m);
+        return Arrays.copyOf(solver.chosen, solver.count);
+    }
+
+    private void solve(long[] keys, int from, int to) {
+        while (to - from > sortThreshold) {
+            if (count == chosen.length) {
+                return;
+            }
+            int mid = partition(keys, from, to, pivot(keys, from, to));
+            solve(keys, from, mid);
+            from = mid;
+            to = filter(keys, from, to);
+        }
+        Arrays.parallelSort(keys, from, to);
+        for (int i = from; i < to && count < chosen.length; i++) {
+            int edge = (int) keys[i];
+            if (sets.union(sources[edge], targets[edge])) {
+                chosen[count++] = edge;
+            }
+        }
+    }
+
+    // Median of random keys from each third of the range. The three keys are
+    // distinct, so one of them is above the pivot and neither side of the
+    // partition is empty.
+    private long pivot(long[] keys, int from, int to) {
+        int third = (to - from) / 3;
+        long a = keys[from + random.nextInt(third)];
+        long b = keys[from + third + random.nextInt(third)];
+        long c = keys[from + 2 * third + random.nextInt(third)];
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    // Moves the keys up to pivot to the front and returns where the rest start.
+    private static int partition(long[] keys, int from, int to, long pivot) {
+        int lo = from;
+        int hi = to;
+        while (lo < hi) {
+            if (keys[lo] <= pivot) {
+                lo++;
+            } else {
+                long swap = keys[--hi];
+                keys[hi] = keys[lo];
+                keys[lo] = swap;
+            }
+        }
+        return lo;
+    }
+
+    // Keeps the edges whose ends are still apart, in order, and returns the
+    // new end of the range. Marking only finds, so the range can be marked in
+    // parallel; compacting it is sequential.
+    private int filter(long[] keys, int from, int to) {
+        Mark mark = new Mark(keys, from, to);
+        if (to - from <= FILTER_GRAIN) {
+            mark.compute();
+        } else if (ForkJoinTask.inForkJoinPool() && ForkJoinTask.getPool() == pool) {
+            mark.invoke();
+        } else {
+            pool.invoke(mark);
+        }
+        int end = from;
+        for (int i = from; i < to; i++) {
+            if (keep[i]) {
+                keys[end++] = keys[i];
+            }
+        }
+        return end;
+    }
+
+    private class Mark extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] keys;
+        private final int from;
+        private final int to;
+
+        Mark(long[] keys, int from, int to) {
+            this.keys = keys;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > FILTER_GRAIN) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new Mark(keys, from, mid), new Mark(keys, mid, to));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                int edge = (int) keys[i];
+                keep[i] = !sets.connected(sources[edge], targets[edge]);
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+// All-pairs shortest paths on a flat row-major n * n distance array, where
+// Integer.MAX_VALUE means unreachable. The matrix is processed in BLOCK-sized
+// tiles: for each diagonal tile k the tile itself is closed first, then its
+// row and column of tiles, then every other tile, and the tiles of the last
+// two phases are independent so they run on a fork-join pool.
+// Graph ids keep holes where vertices were removed, so callers number their
+// live vertices 0..n-1 through a VertexIndex before building the table.
+public final class FloydWarshall {
+    public static final int BLOCK = 64;
+    private static final int PARALLEL_THRESHOLD = 4 * BLOCK;
+
+    private FloydWarshall() {
+    }
+
+    public static int[] initialDistances(int n) {
+        int[] distances = new int[n * n];
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        for (int i = 0; i < n; i++) {
+            distances[i * n + i] = 0;
+        }
+        return distances;
+    }
+
+    public static void addEdge(int[] distances, int n, int source, int destination, int weight) {
+        int cell = source * n + destination;
+        distances[cell] = Math.min(distances[cell], weight);
+    }
+
+    public static void run(int[] distances, int n) {
+        run(distances, n, ForkJoinPool.commonPool());
+    }
+
+    public static void run(int[] distances, int n, ForkJoinPool pool) {
+        int blocks = (n + BLOCK - 1) / BLOCK;
+        boolean parallel = n >= PARALLEL_THRESHOLD && pool.getParallelism() > 1;
+
+        for (int k = 0; k < blocks; k++) {
+            relaxTile(distances, n, k, k, k);
+
+            List<RecursiveAction> cross = new ArrayList<>();
+            for (int b = 0; b < blocks; b++) {
+                if (b != k) {
+                    cross.add(tile(distances, n, k, b, k));
+                    cross.add(tile(distances, n, b, k, k));
+                }
+            }
+            runAll(pool, cross, parallel);
+
+            List<RecursiveAction> rest = new ArrayList<>();
+            for (int i = 0; i < blocks; i++) {
+                for (int j = 0; j < blocks; j++) {
+                    if (i != k && j != k) {
+                        rest.add(tile(distances, n, i, j, k));
+                    }
+                }
+            }
+            runAll(pool, rest, parallel);
+        }
+    }
+
+    private static void runAll(ForkJoinPool pool, List<RecursiveAction> tasks, boolean parallel) {
+        if (!parallel) {
+            for (RecursiveAction task : tasks) {
+                task.invoke();
+            }
+        } else if (ForkJoinTask.inForkJoinPool() && ForkJoinTask.getPool() == pool) {
+            ForkJoinTask.invokeAll(tasks);
+        } else {
+            pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(tasks);
+                }
+            });
+        }
+    }
+
+    private static RecursiveAction tile(int[] distances, int n, int rowBlock, int colBlock, int k) {
+        return new RecursiveAction() {
+            @Override
+            protected void compute() {
+                relaxTile(distances, n, rowBlock, colBlock, k);
+            }
+        };
+    }
+
+    // Relaxes tile (rowBlock, colBlock) through every intermediate vertex of
+    // tile k. Keeping k outermost makes it correct even when the tile being
+    // written is also the one being read, as in the first two phases.
+    private static void relaxTile(int[] distances, int n, int rowBlock, int colBlock, int kBlock) {
+        int rowEnd = Math.min(n, (rowBlock + 1) * BLOCK);
+        int colStart = colBlock * BLOCK;
+        int colEnd = Math.min(n, colStart + BLOCK);
+        int kEnd = Math.min(n, (kBlock + 1) * BLOCK);
+
+        for (int k = kBlock * BLOCK; k < kEnd; k++) {
+            int kRow = k * n;
+            for (int i = rowBlock * BLOCK; i < rowEnd; i++) {
+                int iRow = i * n;
+                int distanceIK = distances[iRow + k];
+                if (distanceIK == Integer.MAX_VALUE) {
+                    continue;
+                }
+                for (int j = colStart; j < colEnd; j++) {
+                    int distanceKJ = distances[kRow + j];
+                    if (distanceKJ != Integer.MAX_VALUE && distanceIK + distanceKJ < distances[iRow + j]) {
+                        distances[iRow + j] = distanceIK + distanceKJ;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,423 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Immutable snapshot returned by IGraph.freeze(). Vertices are interned to
+// the ids 0..n-1 and arcs are stored in CSR form, each row sorted by target
+// id, so the graph holds no per-vertex or per-edge objects. Nothing changes
+// after construction, so threads can share it without locking.
+public final class FrozenGraph<T> implements IGraph<T>, IntGraph {
+    private final VertexIndex<T> index;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+    private final int minWeight;
+    private final int maxWeight;
+    private volatile FrozenGraph<T> reversed;
+
+    private FrozenGraph(VertexIndex<T> index, int[] offsets, int[] targets, int[] weights) {
+        this.index = index;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        int min = 0;
+        int max = 0;
+        for (int weight : weights) {
+            min = Math.min(min, weight);
+            max = Math.max(max, weight);
+        }
+        this.minWeight = min;
+        this.maxWeight = max;
+    }
+
+    public static FrozenGraph<Integer> copyOf(IntGraph graph) {
+        Builder<Integer> builder = new Builder<>();
+        for (int v = 0; v < graph.capacity(); v++) {
+            if (graph.containsVertex(v)) {
+                builder.addVertex(v);
+            }
+        }
+        for (int v = 0; v < graph.capacity(); v++) {
+            if (graph.containsVertex(v)) {
+                for (int e = graph.firstEdge(v); e >= 0; e = graph.nextEdge(v, e)) {
+                    builder.addEdge(v, graph.target(v, e), graph.weight(v, e));
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    // Collects vertices and arcs in any order. Vertices get ids in the order
+    // they are first seen, and of repeated arcs only the first one is kept.
+    // The built graph takes over the builder's storage, so it builds once.
+    public static class Builder<T> {
+        private VertexIndex<T> index = new VertexIndex<>();
+        private int[] sources = new int[16];
+        private int[] targets = new int[16];
+        private int[] weights = new int[16];
+        private int size;
+
+        public Builder<T> addVertex(T vertex) {
+            checkNotBuilt();
+            index.add(vertex);
+            return this;
+        }
+
+        public Builder<T> addEdge(T source, T destination, int weight) {
+            checkNotBuilt();
+            int s = index.add(source);
+            int t = index.add(destination);
+            if (size == sources.length) {
+                sources = Arrays.copyOf(sources, size * 2);
+                targets = Arrays.copyOf(targets, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            sources[size] = s;
+            targets[size] = t;
+            weights[size] = weight;
+            size++;
+            return this;
+        }
+
+        public FrozenGraph<T> build() {
+            checkNotBuilt();
+            FrozenGraph<T> graph = FrozenGraph.pack(index, sources, targets, weights, size);
+            index = null;
+            sources = null;
+            targets = null;
+            weights = null;
+            return graph;
+        }
+
+        private void checkNotBuilt() {
+            if (index == null) {
+                throw new IllegalStateException("The graph has already been built");
+            }
+        }
+    }
+
+    // Counting sort on source, then each row sorted on (target, insertion
+    // order) so duplicates are adjacent with the first one in front.
+    private static <T> FrozenGraph<T> pack(VertexIndex<T> index, int[] sources, int[] edgeTargets,
+            int[] edgeWeights, int size) {
+        int n = index.size();
+        int[] offsets = new int[n + 1];
+        for (int i = 0; i < size; i++) {
+            offsets[sources[i] + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        int[] slot = Arrays.copyOf(offsets, n);
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[slot[sources[i]]++] = i;
+        }
+
+        int[] targets = new int[size];
+        int[] weights = new int[size];
+        int[] packed = new int[n + 1];
+        int count = 0;
+        long[] keys = new long[0];
+        for (int v = 0; v < n; v++) {
+            packed[v] = count;
+            int degree = offsets[v + 1] - offsets[v];
+            if (keys.length < degree) {
+                keys = new long[degree];
+            }
+            for (int j = 0; j < degree; j++) {
+                int edge = order[offsets[v] + j];
+                keys[j] = ((long) edgeTargets[edge] << 32) | j;
+            }
+            Arrays.sort(keys, 0, degree);
+            for (int j = 0; j < degree; j++) {
+                int edge = order[offsets[v] + (int) keys[j]];
+                if (count > packed[v] && targets[count - 1] == edgeTargets[edge]) {
+                    continue;
+                }
+                targets[count] = edgeTargets[edge];
+                weights[count] = edgeWeights[edge];
+                count++;
+            }
+        }
+        packed[n] = count;
+        return new FrozenGraph<>(index, packed, Arrays.copyOf(targets, count), Arrays.copyOf(weights, count));
+    }
+
+    public int indexOf(T vertex) {
+        return index.indexOf(vertex);
+    }
+
+    public T vertex(int id) {
+        return index.get(id);
+    }
+
+    public int vertexCount() {
+        return index.size();
+    }
+
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    @Override
+    public int capacity() {
+        return index.size();
+    }
+
+    @Override
+    public boolean containsVertex(int vertex) {
+        return vertex >= 0 && vertex < index.size();
+    }
+
+    @Override
+    public int firstEdge(int vertex) {
+        return offsets[vertex] < offsets[vertex + 1] ? offsets[vertex] : -1;
+    }
+
+    @Override
+    public int nextEdge(int vertex, int edge) {
+        return edge + 1 < offsets[vertex + 1] ? edge + 1 : -1;
+    }
+
+    @Override
+    public int target(int vertex, int edge) {
+        return targets[edge];
+    }
+
+    @Override
+    public int weight(int vertex, int edge) {
+        return weights[edge];
+    }
+
+    @Override
+    public int minWeight() {
+        return minWeight;
+    }
+
+    @Override
+    public int maxWeight() {
+        return maxWeight;
+    }
+
+    // Built on first use; a race only builds the same reverse twice.
+    @Override
+    public FrozenGraph<T> reverse() {
+        FrozenGraph<T> reverse = reversed;
+        if (reverse == null) {
+            int n = index.size();
+            int[] sources = new int[targets.length];
+            for (int v = 0; v < n; v++) {
+                Arrays.fill(sources, offsets[v], offsets[v + 1], v);
+            }
+            reverse = pack(index, targets, sources, weights, targets.length);
+            reverse.reversed = this;
+            reversed = reverse;
+        }
+        return reverse;
+    }
+
+    @Override
+    public FrozenGraph<T> freeze() {
+        return this;
+    }
+
+    @Override
+    public void addVertex(T vertex) {
+        throw new UnsupportedOperationException("A frozen graph cannot be modified");
+    }
+
+    @Override
+    public void addEdge(T source, T destination, int weight) {
+        throw new UnsupportedOperationException("A frozen graph cannot be modified");
+    }
+
+    @Override
+    public void removeVertex(T value) {
+        throw new UnsupportedOperationException("A frozen graph cannot be modified");
+    }
+
+    @Override
+    public void removeEdge(T source, T destination) {
+        throw new UnsupportedOperationException("A frozen graph cannot be modified");
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("A frozen graph cannot be modified");
+    }
+
+    @Override
+    public List<T> getVertices() {
+        List<T> vertices = new ArrayList<>(index.size());
+        for (int v = 0; v < index.size(); v++) {
+            vertices.add(index.get(v));
+        }
+        return vertices;
+    }
+
+    @Override
+    public List<T> getNeighbors(T vertex) {
+        int v = index.indexOf(vertex);
+        if (v < 0) {
+            return Collections.emptyList();
+        }
+        List<T> neighbors = new ArrayList<>(offsets[v + 1] - offsets[v]);
+        for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+            neighbors.add(index.get(targets[e]));
+        }
+        return neighbors;
+    }
+
+    @Override
+    public List<T> bfs(T start) {
+        int s = index.indexOf(start);
+        if (s < 0)
+            return null;
+        int[] order = new int[index.size()];
+        int count = IntGraphSearch.bfs(this, s, order);
+        List<T> bfs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            bfs.add(index.get(order[i]));
+        }
+        return bfs;
+    }
+
+    @Override
+    public void dfs(T start) {
+        int s = index.indexOf(start);
+        if (s < 0)
+            return;
+        int[] order = new int[index.size()];
+        int count = IntGraphSearch.dfs(this, s, order);
+        for (int i = 0; i < count; i++) {
+            System.out.print(index.get(order[i]) + " ");
+        }
+    }
+
+    @Override
+    public boolean bfs(T start, Visitor<T> visitor) {
+        int s = index.indexOf(start);
+        return s >= 0 && new IntTraversal(index.size()).bfs(this, s, v -> visitor.visit(index.get(v)));
+    }
+
+    @Override
+    public boolean dfs(T start, Visitor<T> visitor) {
+        int s = index.indexOf(start);
+        return s >= 0 && new IntTraversal(index.size()).dfs(this, s, v -> visitor.visit(index.get(v)));
+    }
+
+    @Override
+    public Map<T, Pair<Integer, T>> dijkstra(T start) {
+        int s = index.indexOf(start);
+        if (s < 0)
+            return new HashMap<>();
+        int[] previous = new int[index.size()];
+        int[] distances = IntGraphSearch.dijkstra(this, s, previous);
+
+        Map<T, Pair<Integer, T>> result = new HashMap<>();
+        for (int v = 0; v < index.size(); v++) {
+            result.put(index.get(v), new Pair<>(distances[v], previous[v] < 0 ? null : index.get(previous[v])));
+        }
+        return result;
+    }
+
+    @Override
+    public Map<T, Pair<Integer, T>> shortestPath(T source, T target, Heuristic<T> heuristic) {
+        int s = index.indexOf(source);
+        int t = index.indexOf(target);
+        if (s < 0 || t < 0)
+            return new HashMap<>();
+        int[] previous = new int[index.size()];
+        int[] distances = IntGraphSearch.aStar(this, s, t, previous,
+                (vertex, goal) -> heuristic.estimate(index.get(vertex), index.get(goal)));
+
+        Map<T, Pair<Integer, T>> result = new HashMap<>();
+        for (int v = 0; v < index.size(); v++) {
+            if (distances[v] != Integer.MAX_VALUE) {
+                result.put(index.get(v), new Pair<>(distances[v], previous[v] < 0 ? null : index.get(previous[v])));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Map<T, Pair<Integer, T>> bidirectionalDijkstra(T source, T target) {
+        int s = index.indexOf(source);
+        int t = index.indexOf(target);
+        Map<T, Pair<Integer, T>> result = new HashMap<>();
+        if (s < 0 || t < 0)
+            return result;
+        int[] previous = new int[index.size()];
+        if (IntGraphSearch.bidirectionalDijkstra(this, reverse(), s, t, previous) == Integer.MAX_VALUE) {
+            return result;
+        }
+        for (Map.Entry<Integer, Pair<Integer, Integer>> label : IntGraphSearch.pathLabels(this, t, previous)
+                .entrySet()) {
+            Integer before = label.getValue().getSecond();
+            result.put(index.get(label.getKey()),
+                    new Pair<>(label.getValue().getFirst(), before == null ? null : index.get(before)));
+        }
+        return result;
+    }
+
+    @Override
+    public Map<T, Map<T, Integer>> floydWarshall() {
+        int n = index.size();
+        int[] distances = FloydWarshall.initialDistances(n);
+        for (int v = 0; v < n; v++) {
+            for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                FloydWarshall.addEdge(distances, n, v, targets[e], weights[e]);
+            }
+        }
+        FloydWarshall.run(distances, n);
+        return new DistanceTable<>(index, distances);
+    }
+
+    @Override
+    public Map<T, T> primMST() {
+        int n = index.size();
+        Map<T, T> result = new HashMap<>();
+        if (n == 0) {
+            return result;
+        }
+
+        int[] parent = new int[n];
+        IntGraphSearch.prim(this, 0, parent);
+
+        for (int v = 0; v < n; v++) {
+            result.put(index.get(v), parent[v] < 0 ? null : index.get(parent[v]));
+        }
+        return result;
+    }
+
+    @Override
+    public List<Edge<T>> kruskalMST() {
+        return spanningForest(FilterKruskal::run);
+    }
+
+    @Override
+    public List<Edge<T>> boruvkaMST() {
+        return spanningForest(Boruvka::run);
+    }
+
+    private List<Edge<T>> spanningForest(SpanningForest engine) {
+        int n = index.size();
+        int m = targets.length;
+        int[] sources = new int[m];
+        for (int v = 0; v < n; v++) {
+            Arrays.fill(sources, offsets[v], offsets[v + 1], v);
+        }
+
+        List<Edge<T>> mst = new ArrayList<>();
+        for (int e : engine.run(n, sources, targets, weights, m)) {
+            mst.add(new Edge<>(new Node<>(index.get(sources[e])), new Node<>(index.get(targets[e])), weights[e]));
+        }
+        return mst;
+    }
+}
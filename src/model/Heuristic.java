@@ -0,0 +1,7 @@
+package model;
+
+// Lower bound on the cost of reaching target from vertex. It must never
+// overestimate, otherwise shortestPath may return a longer path.
+public interface Heuristic<T> {
+    int estimate(T vertex, T target);
+}
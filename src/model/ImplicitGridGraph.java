@@ -0,0 +1,324 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Grid maze read straight from its cells. Vertex ids are
+// row * numCols + col, a cell is a vertex when its value is not -1 and every
+// open cell has an arc to each open orthogonal neighbor weighted by the
+// neighbor's value. Edge handles are the directions up, down, left, right.
+public class ImplicitGridGraph implements IGraph<Integer>, IntGraph {
+    private static final int[] ROW_STEP = { -1, 1, 0, 0 };
+    private static final int[] COL_STEP = { 0, 0, -1, 1 };
+
+    private final CellGrid cells;
+    private final int numRows;
+    private final int numCols;
+    // The largest cell value, or -1 until a search first asks for it. Finding
+    // it reads every cell, which would make opening a mapped maze as slow as
+    // reading it, so it is left to the first search.
+    private int maxWeight = -1;
+
+    // The graph is a read-only view: it shares the caller's cells rather than
+    // copying them, so every mutation throws instead of rewriting the maze.
+    // The cells must not change once a search has bounded the arc weights.
+    public ImplicitGridGraph(int[][] matrix) {
+        this(CellGrid.of(matrix));
+    }
+
+    public ImplicitGridGraph(CellGrid cells) {
+        this.cells = cells;
+        this.numRows = cells.getNumRows();
+        this.numCols = cells.getNumCols();
+    }
+
+    public int getNumRows() {
+        return numRows;
+    }
+
+    public int getNumCols() {
+        return numCols;
+    }
+
+    @Override
+    public int capacity() {
+        return numRows * numCols;
+    }
+
+    @Override
+    public boolean containsVertex(int vertex) {
+        return vertex >= 0 && vertex < numRows * numCols && cells.get(vertex) > -1;
+    }
+
+    @Override
+    public int firstEdge(int vertex) {
+        return nextEdge(vertex, -1);
+    }
+
+    @Override
+    public int nextEdge(int vertex, int edge) {
+        int row = vertex / numCols;
+        int col = vertex % numCols;
+        for (int direction = edge + 1; direction < 4; direction++) {
+            int r = row + ROW_STEP[direction];
+            int c = col + COL_STEP[direction];
+            if (r >= 0 && r < numRows && c >= 0 && c < numCols && cells.get(r * numCols + c) > -1) {
+                return direction;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int target(int vertex, int edge) {
+        return vertex + ROW_STEP[edge] * numCols + COL_STEP[edge];
+    }
+
+    @Override
+    public int weight(int vertex, int edge) {
+        return cells.get(target(vertex, edge));
+    }
+
+    // Only cells above -1 are vertices, so no arc weighs less than 0.
+    @Override
+    public int minWeight() {
+        return 0;
+    }
+
+    // Racing searches may each scan the cells, but they store the same value.
+    @Override
+    public int maxWeight() {
+        int max = maxWeight;
+        if (max < 0) {
+            max = 0;
+            for (int v = 0; v < numRows * numCols; v++) {
+                max = Math.max(max, cells.get(v));
+            }
+            maxWeight = max;
+        }
+        return max;
+    }
+
+    // Open neighbors are mutual, so the reverse grid has the same arcs and each
+    // arc v -> u costs the value of v, the cell it originally led into.
+    @Override
+    public IntGraph reverse() {
+        ImplicitGridGraph forward = this;
+        return new IntGraph() {
+            @Override
+            public int capacity() {
+                return forward.capacity();
+            }
+
+            @Override
+            public boolean containsVertex(int vertex) {
+                return forward.containsVertex(vertex);
+            }
+
+            @Override
+            public int firstEdge(int vertex) {
+                return forward.firstEdge(vertex);
+            }
+
+            @Override
+            public int nextEdge(int vertex, int edge) {
+                return forward.nextEdge(vertex, edge);
+            }
+
+            @Override
+            public int target(int vertex, int edge) {
+                return forward.target(vertex, edge);
+            }
+
+            @Override
+            public int weight(int vertex, int edge) {
+                return cells.get(vertex);
+            }
+
+            @Override
+            public int minWeight() {
+                return 0;
+            }
+
+            @Override
+            public int maxWeight() {
+                return forward.maxWeight();
+            }
+
+            @Override
+            public IntGraph reverse() {
+                return forward;
+            }
+        };
+    }
+
+    @Override
+    public void addVertex(Integer vertex) {
+        if (!containsVertex(vertex)) {
+            throw new UnsupportedOperationException("Cells of a grid graph are opened through its matrix");
+        }
+    }
+
+    @Override
+    public void addEdge(Integer source, Integer destination, int weight) {
+        throw new UnsupportedOperationException("Edges of a grid graph follow from its matrix");
+    }
+
+    @Override
+    public List<Integer> getVertices() {
+        List<Integer> vertices = new ArrayList<>();
+        for (int v = 0; v < capacity(); v++) {
+            if (containsVertex(v)) {
+                vertices.add(v);
+            }
+        }
+        return vertices;
+    }
+
+    @Override
+    public List<Integer> getNeighbors(Integer vertex) {
+        if (!containsVertex(vertex)) {
+            return Collections.emptyList();
+        }
+        List<Integer> neighbors = new ArrayList<>(4);
+        for (int e = firstEdge(vertex); e >= 0; e = nextEdge(vertex, e)) {
+            neighbors.add(target(vertex, e));
+        }
+        return neighbors;
+    }
+
+    @Override
+    public List<Integer> bfs(Integer start) {
+        if (!containsVertex(start))
+            return null;
+        int[] order = new int[capacity()];
+        int count = IntGraphSearch.bfs(this, start, order);
+        List<Integer> bfs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            bfs.add(order[i]);
+        }
+        return bfs;
+    }
+
+    @Override
+    public boolean bfs(Integer start, Visitor<Integer> visitor) {
+        return new IntTraversal(capacity()).bfs(this, start, visitor::visit);
+    }
+
+    @Override
+    public boolean dfs(Integer start, Visitor<Integer> visitor) {
+        return new IntTraversal(capacity()).dfs(this, start, visitor::visit);
+    }
+
+    @Override
+    public void dfs(Integer start) {
+        if (!containsVertex(start))
+            return;
+        int[] order = new int[capacity()];
+        int count = IntGraphSearch.dfs(this, start, order);
+        for (int i = 0; i < count; i++) {
+            System.out.print(order[i] + " ");
+        }
+    }
+
+    @Override
+    public void removeVertex(Integer value) {
+        throw new UnsupportedOperationException("Cells of a grid graph are walled off through its matrix");
+    }
+
+    @Override
+    public void removeEdge(Integer source, Integer destination) {
+        throw new UnsupportedOperationException("Edges of a grid graph follow from its matrix");
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("Cells of a grid graph are walled off through its matrix");
+    }
+
+    @Override
+    public Map<Integer, Pair<Integer, Integer>> dijkstra(Integer start) {
+        if (!containsVertex(start))
+            return new HashMap<>();
+        int[] previous = new int[capacity()];
+        int[] distances = IntGraphSearch.dijkstra(this, start, previous);
+
+        Map<Integer, Pair<Integer, Integer>> result = new HashMap<>();
+        for (int v = 0; v < capacity(); v++) {
+            if (containsVertex(v)) {
+                result.put(v, new Pair<>(distances[v], previous[v] < 0 ? null : previous[v]));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Map<Integer, Pair<Integer, Integer>> shortestPath(Integer source, Integer target,
+            Heuristic<Integer> heuristic) {
+        if (!containsVertex(source))
+            return new HashMap<>();
+        int[] previous = new int[capacity()];
+        int[] distances = IntGraphSearch.aStar(this, source, target, previous, IntHeuristic.of(heuristic));
+
+        Map<Integer, Pair<Integer, Integer>> result = new HashMap<>();
+        for (int v = 0; v < capacity(); v++) {
+            if (distances[v] != Integer.MAX_VALUE) {
+                result.put(v, new Pair<>(distances[v], previous[v] < 0 ? null : previous[v]));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Map<Integer, Pair<Integer, Integer>> bidirectionalDijkstra(Integer source, Integer target) {
+        int[] previous = new int[capacity()];
+        int cost = IntGraphSearch.bidirectionalDijkstra(this, reverse(), source, target, previous);
+        if (cost == Integer.MAX_VALUE) {
+            return new HashMap<>();
+        }
+        return IntGraphSearch.pathLabels(this, target, previous);
+    }
+
+    @Override
+    public Map<Integer, Map<Integer, Integer>> floydWarshall() {
+        return CsrGraph.copyOf(this).floydWarshall();
+    }
+
+    @Override
+    public Map<Integer, Integer> primMST() {
+        Map<Integer, Integer> result = new HashMap<>();
+        int root = 0;
+        while (root < capacity() && !containsVertex(root)) {
+            root++;
+        }
+        if (root == capacity()) {
+            return result;
+        }
+        int[] parent = new int[capacity()];
+        IntGraphSearch.prim(this, root, parent);
+        for (int v = root; v < capacity(); v++) {
+            if (containsVertex(v)) {
+                result.put(v, parent[v] < 0 ? null : parent[v]);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Edge<Integer>> kruskalMST() {
+        return CsrGraph.copyOf(this).kruskalMST();
+    }
+
+    @Override
+    public List<Edge<Integer>> boruvkaMST() {
+        return CsrGraph.copyOf(this).boruvkaMST();
+    }
+
+    @Override
+    public FrozenGraph<Integer> freeze() {
+        return FrozenGraph.copyOf(this);
+    }
+}
@@ -0,0 +1,145 @@
+package model;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+// d-ary min-heap over the int indices [0, capacity) keyed by int priorities.
+// Each index is in the heap at most once, so decreaseKey replaces the
+// duplicate entries a plain PriorityQueue would need.
+public class IndexedMinHeap implements IntPriorityQueue {
+    public static final int DEFAULT_ARITY = 4;
+
+    private final int arity;
+    private final int[] heap;
+    private final int[] position;
+    private final int[] priorities;
+    private int size;
+
+    public IndexedMinHeap(int capacity) {
+        this(capacity, DEFAULT_ARITY);
+    }
+
+    public IndexedMinHeap(int capacity, int arity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Heap arity must be at least 2: " + arity);
+        }
+        this.arity = arity;
+        this.heap = new int[capacity];
+        this.position = new int[capacity];
+        this.priorities = new int[capacity];
+        Arrays.fill(position, -1);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(int index) {
+        return position[index] >= 0;
+    }
+
+    @Override
+    public int priority(int index) {
+        return priorities[index];
+    }
+
+    @Override
+    public void insert(int index, int priority) {
+        if (contains(index)) {
+            throw new IllegalArgumentException("Index already in heap: " + index);
+        }
+        priorities[index] = priority;
+        heap[size] = index;
+        position[index] = size;
+        siftUp(size++);
+    }
+
+    @Override
+    public void decreaseKey(int index, int priority) {
+        if (!contains(index)) {
+            throw new NoSuchElementException("Index not in heap: " + index);
+        }
+        if (priority > priorities[index]) {
+            throw new IllegalArgumentException("New priority is larger than the current one");
+        }
+        priorities[index] = priority;
+        siftUp(position[index]);
+    }
+
+    public int peek() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return heap[0];
+    }
+
+    @Override
+    public int poll() {
+        int top = peek();
+        position[top] = -1;
+        size--;
+        if (size > 0) {
+            int last = heap[size];
+            heap[0] = last;
+            position[last] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            position[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int i) {
+        int index = heap[i];
+        int priority = priorities[index];
+        while (i > 0) {
+            int parent = (i - 1) / arity;
+            int parentIndex = heap[parent];
+            if (priorities[parentIndex] <= priority) {
+                break;
+            }
+            heap[i] = parentIndex;
+            position[parentIndex] = i;
+            i = parent;
+        }
+        heap[i] = index;
+        position[index] = i;
+    }
+
+    private void siftDown(int i) {
+        int index = heap[i];
+        int priority = priorities[index];
+        while (true) {
+            int first = i * arity + 1;
+            if (first >= size) {
+                break;
+            }
+            int last = Math.min(first + arity, size);
+            int min = first;
+            for (int child = first + 1; child < last; child++) {
+                if (priorities[heap[child]] < priorities[heap[min]]) {
+                    min = child;
+                }
+            }
+            if (priorities[heap[min]] >= priority) {
+                break;
+            }
+            heap[i] = heap[min];
+            position[heap[i]] = i;
+            i = min;
+        }
+        heap[i] = index;
+        position[index] = i;
+    }
+}
@@ -0,0 +1,88 @@
+package model;
+
+import java.util.Arrays;
+
+// Union-find over the ints [0, size()), kept in two int arrays: the parent of
+// each element and, for roots, the size of their set. Unions hang the smaller
+// set under the larger and finds halve the path as they walk it, iteratively,
+// so chains never get deep and nothing is allocated per element.
+//
+// Finds may run concurrently with each other while no union is running:
+// halving only ever points an element at one of its own ancestors.
+public final class IntDisjointSet {
+    private int[] parent;
+    private int[] size;
+    private int elements;
+    private int count;
+
+    public IntDisjointSet() {
+        this(0);
+    }
+
+    public IntDisjointSet(int n) {
+        parent = new int[Math.max(n, 16)];
+        size = new int[parent.length];
+        makeSets(n);
+    }
+
+    // Adds n singleton sets and returns the first of their elements.
+    public int makeSets(int n) {
+        int first = elements;
+        if (first + n > parent.length) {
+            int capacity = Math.max(first + n, parent.length * 2);
+            parent = Arrays.copyOf(parent, capacity);
+            size = Arrays.copyOf(size, capacity);
+        }
+        for (int x = first; x < first + n; x++) {
+            parent[x] = x;
+            size[x] = 1;
+        }
+        elements += n;
+        count += n;
+        return first;
+    }
+
+    public int find(int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+
+    // Returns false when a and b were already in the same set.
+    public boolean union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA == rootB) {
+            return false;
+        }
+        if (size[rootA] < size[rootB]) {
+            int swap = rootA;
+            rootA = rootB;
+            rootB = swap;
+        }
+        parent[rootB] = rootA;
+        size[rootA] += size[rootB];
+        count--;
+        return true;
+    }
+
+    public boolean connected(int a, int b) {
+        return find(a) == find(b);
+    }
+
+    public int sizeOf(int x) {
+        return size[find(x)];
+    }
+
+    // Number of disjoint sets.
+    public int count() {
+        return count;
+    }
+
+    // Number of elements.
+    public int size() {
+        return elements;
+    }
+}
@@ -0,0 +1,23 @@
+package model;
+
+// Primitive view of a graph whose vertices are the ints in [0, capacity()).
+// Edges are walked with opaque int handles so no iterator is allocated:
+// for (int e = g.firstEdge(u); e >= 0; e = g.nextEdge(u, e)) { ... }
+public interface IntGraph {
+    int capacity();
+    boolean containsVertex(int vertex);
+    int firstEdge(int vertex);
+    int nextEdge(int vertex, int edge);
+    int target(int vertex, int edge);
+    int weight(int vertex, int edge);
+
+    // Bounds on the arc weights, both including 0, that searches use to pick
+    // their queue without scanning the arcs. They must hold for every arc but
+    // may be loose: mutable graphs widen them as arcs are added and only
+    // narrow them again on clear, so removing the heaviest arc keeps its bound.
+    int minWeight();
+    int maxWeight();
+
+    // The same vertices with every arc turned around, keeping its weight.
+    IntGraph reverse();
+}
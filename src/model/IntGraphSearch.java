@@ -0,0 +1,299 @@
+package model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public final class IntGraphSearch {
+
+    private IntGraphSearch() {
+    }
+
+    public static int bfs(IntGraph graph, int start, int[] order) {
+        if (!graph.containsVertex(start))
+            return 0;
+        boolean[] visited = new boolean[graph.capacity()];
+        int head = 0;
+        int tail = 0;
+        visited[start] = true;
+        order[tail++] = start;
+
+        while (head < tail) {
+            int current = order[head++];
+            for (int e = graph.firstEdge(current); e >= 0; e = graph.nextEdge(current, e)) {
+                int neighbor = graph.target(current, e);
+                if (!visited[neighbor]) {
+                    visited[neighbor] = true;
+                    order[tail++] = neighbor;
+                }
+            }
+        }
+        return tail;
+    }
+
+    public static int dfs(IntGraph graph, int start, int[] order) {
+        if (!graph.containsVertex(start))
+            return 0;
+        boolean[] visited = new boolean[graph.capacity()];
+        int[] stack = new int[16];
+        int top = 0;
+        int count = 0;
+        stack[top++] = start;
+
+        while (top > 0) {
+            int current = stack[--top];
+            if (visited[current])
+                continue;
+
+            visited[current] = true;
+            order[count++] = current;
+
+            for (int e = graph.firstEdge(current); e >= 0; e = graph.nextEdge(current, e)) {
+                int neighbor = graph.target(current, e);
+                if (!visited[neighbor]) {
+                    if (top == stack.length) {
+                        stack = Arrays.copyOf(stack, top * 2);
+                    }
+                    stack[top++] = neighbor;
+                }
+            }
+        }
+        return count;
+    }
+
+    // Fills previous with the predecessor of every reached vertex (-1 otherwise)
+    // and returns the distances, Integer.MAX_VALUE meaning unreachable.
+    public static int[] dijkstra(IntGraph graph, int source, int[] previous) {
+        return dijkstra(graph, source, previous, IndexedMinHeap.DEFAULT_ARITY);
+    }
+
+    // The queue is picked from the graph's weight bounds: Dial's buckets or a
+    // radix heap when they are non-negative, a d-ary heap of the given arity
+    // otherwise.
+    public static int[] dijkstra(IntGraph graph, int source, int[] previous, int heapArity) {
+        int[] distances = new int[graph.capacity()];
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        Arrays.fill(previous, -1);
+        if (!graph.containsVertex(source))
+            return distances;
+        boolean[] visited = new boolean[graph.capacity()];
+        IntPriorityQueue queue = IntPriorityQueue.forWeights(graph.capacity(), graph.minWeight(),
+                graph.maxWeight(), heapArity);
+
+        distances[source] = 0;
+        queue.insert(source, 0);
+
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+            visited[current] = true;
+
+            for (int e = graph.firstEdge(current); e >= 0; e = graph.nextEdge(current, e)) {
+                int neighbor = graph.target(current, e);
+                int distanceToNeighbor = distances[current] + graph.weight(current, e);
+                if (distanceToNeighbor < distances[neighbor]) {
+                    distances[neighbor] = distanceToNeighbor;
+                    previous[neighbor] = current;
+                    if (queue.contains(neighbor)) {
+                        queue.decreaseKey(neighbor, distanceToNeighbor);
+                    } else if (!visited[neighbor]) {
+                        queue.insert(neighbor, distanceToNeighbor);
+                    }
+                }
+            }
+        }
+        return distances;
+    }
+
+    // Prim's algorithm from root, driven by an indexed heap of the cheapest
+    // known arc into each vertex. Fills parent with the tree parent of every
+    // vertex reached from root and -1 for root and everything else.
+    public static void prim(IntGraph graph, int root, int[] parent) {
+        prim(graph, root, parent, IndexedMinHeap.DEFAULT_ARITY);
+    }
+
+    public static void prim(IntGraph graph, int root, int[] parent, int heapArity) {
+        Arrays.fill(parent, -1);
+        if (!graph.containsVertex(root))
+            return;
+        int[] key = new int[graph.capacity()];
+        boolean[] inTree = new boolean[graph.capacity()];
+        IndexedMinHeap queue = new IndexedMinHeap(graph.capacity(), heapArity);
+        Arrays.fill(key, Integer.MAX_VALUE);
+        key[root] = 0;
+        queue.insert(root, 0);
+
+        while (!queue.isEmpty()) {
+            int u = queue.poll();
+            inTree[u] = true;
+
+            for (int e = graph.firstEdge(u); e >= 0; e = graph.nextEdge(u, e)) {
+                int v = graph.target(u, e);
+                int weight = graph.weight(u, e);
+                if (!inTree[v] && weight < key[v]) {
+                    key[v] = weight;
+                    parent[v] = u;
+                    if (queue.contains(v)) {
+                        queue.decreaseKey(v, weight);
+                    } else {
+                        queue.insert(v, weight);
+                    }
+                }
+            }
+        }
+    }
+
+    // A* from source that stops once target is settled. Distances are exact
+    // for settled vertices, upper bounds for the frontier and Integer.MAX_VALUE
+    // for vertices never reached. A closed vertex whose distance still improves
+    // (possible when the heuristic is admissible but not consistent) is reopened.
+    public static int[] aStar(IntGraph graph, int source, int target, int[] previous, IntHeuristic heuristic) {
+        return aStar(graph, source, target, previous, heuristic, IndexedMinHeap.DEFAULT_ARITY);
+    }
+
+    public static int[] aStar(IntGraph graph, int source, int target, int[] previous, IntHeuristic heuristic,
+            int heapArity) {
+        int[] distances = new int[graph.capacity()];
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        Arrays.fill(previous, -1);
+        if (!graph.containsVertex(source) || !graph.containsVertex(target))
+            return distances;
+        IndexedMinHeap open = new IndexedMinHeap(graph.capacity(), heapArity);
+
+        distances[source] = 0;
+        open.insert(source, heuristic.estimate(source, target));
+
+        while (!open.isEmpty()) {
+            int current = open.poll();
+            if (current == target) {
+                break;
+            }
+
+            for (int e = graph.firstEdge(current); e >= 0; e = graph.nextEdge(current, e)) {
+                int neighbor = graph.target(current, e);
+                int distanceToNeighbor = distances[current] + graph.weight(current, e);
+                if (distanceToNeighbor < distances[neighbor]) {
+                    distances[neighbor] = distanceToNeighbor;
+                    previous[neighbor] = current;
+                    int estimate = distanceToNeighbor + heuristic.estimate(neighbor, target);
+                    if (open.contains(neighbor)) {
+                        open.decreaseKey(neighbor, estimate);
+                    } else {
+                        open.insert(neighbor, estimate);
+                    }
+                }
+            }
+        }
+        return distances;
+    }
+
+    // Bidirectional Dijkstra over graph and its reverse. Returns the cost of
+    // the shortest source-target path, or Integer.MAX_VALUE if there is none,
+    // and leaves previous holding that path as a predecessor chain from target.
+    public static int bidirectionalDijkstra(IntGraph graph, IntGraph reverse, int source, int target,
+            int[] previous) {
+        return bidirectionalDijkstra(graph, reverse, source, target, previous, IndexedMinHeap.DEFAULT_ARITY);
+    }
+
+    public static int bidirectionalDijkstra(IntGraph graph, IntGraph reverse, int source, int target,
+            int[] previous, int heapArity) {
+        Arrays.fill(previous, -1);
+        if (!graph.containsVertex(source) || !graph.containsVertex(target))
+            return Integer.MAX_VALUE;
+        int n = graph.capacity();
+        IntGraph[] sides = { graph, reverse };
+        int[][] distances = new int[2][n];
+        int[][] parents = { previous, new int[n] };
+        boolean[][] settled = new boolean[2][n];
+        IndexedMinHeap[] queues = { new IndexedMinHeap(n, heapArity), new IndexedMinHeap(n, heapArity) };
+
+        Arrays.fill(distances[0], Integer.MAX_VALUE);
+        Arrays.fill(distances[1], Integer.MAX_VALUE);
+        Arrays.fill(parents[1], -1);
+        distances[0][source] = 0;
+        distances[1][target] = 0;
+        queues[0].insert(source, 0);
+        queues[1].insert(target, 0);
+        int best = source == target ? 0 : Integer.MAX_VALUE;
+        int meeting = source == target ? source : -1;
+
+        while (!queues[0].isEmpty() && !queues[1].isEmpty()) {
+            int forwardMin = queues[0].priority(queues[0].peek());
+            int backwardMin = queues[1].priority(queues[1].peek());
+            if (best != Integer.MAX_VALUE && (long) forwardMin + backwardMin >= best) {
+                break;
+            }
+            int side = forwardMin <= backwardMin ? 0 : 1;
+            IntGraph g = sides[side];
+            int[] distance = distances[side];
+            int current = queues[side].poll();
+            settled[side][current] = true;
+
+            for (int e = g.firstEdge(current); e >= 0; e = g.nextEdge(current, e)) {
+                int neighbor = g.target(current, e);
+                int distanceToNeighbor = distance[current] + g.weight(current, e);
+                if (distanceToNeighbor < distance[neighbor]) {
+                    distance[neighbor] = distanceToNeighbor;
+                    parents[side][neighbor] = current;
+                    if (queues[side].contains(neighbor)) {
+                        queues[side].decreaseKey(neighbor, distanceToNeighbor);
+                    } else if (!settled[side][neighbor]) {
+                        queues[side].insert(neighbor, distanceToNeighbor);
+                    }
+                }
+                int other = distances[1 - side][neighbor];
+                if (other != Integer.MAX_VALUE && distance[neighbor] + other < best) {
+                    best = distance[neighbor] + other;
+                    meeting = neighbor;
+                }
+            }
+        }
+
+        if (meeting < 0) {
+            return Integer.MAX_VALUE;
+        }
+        // Splice: the forward half already points back to source, the backward
+        // half is turned around so every vertex after meeting points back too.
+        // A vertex on both halves (only possible through zero-cost cycles)
+        // keeps its forward predecessor, which cuts the cycle out.
+        boolean[] forwardPath = settled[1];
+        Arrays.fill(forwardPath, false);
+        for (int v = meeting; v >= 0; v = previous[v]) {
+            forwardPath[v] = true;
+        }
+        int[] next = parents[1];
+        for (int v = meeting, after = next[v]; after >= 0; v = after, after = next[v]) {
+            if (!forwardPath[after]) {
+                previous[after] = v;
+            }
+        }
+        return best;
+    }
+
+    // Boxed (distance, predecessor) labels for the path that previous encodes
+    // from target back to its root, as returned by IGraph.bidirectionalDijkstra.
+    static Map<Integer, Pair<Integer, Integer>> pathLabels(IntGraph graph, int target, int[] previous) {
+        int length = 1;
+        for (int v = target; previous[v] >= 0; v = previous[v]) {
+            length++;
+        }
+        int[] path = new int[length];
+        for (int i = length - 1, v = target; i >= 0; i--, v = previous[v]) {
+            path[i] = v;
+        }
+
+        Map<Integer, Pair<Integer, Integer>> labels = new HashMap<>();
+        int distance = 0;
+        labels.put(path[0], new Pair<>(0, null));
+        for (int i = 1; i < length; i++) {
+            int u = path[i - 1];
+            for (int e = graph.firstEdge(u); e >= 0; e = graph.nextEdge(u, e)) {
+                if (graph.target(u, e) == path[i]) {
+                    distance += graph.weight(u, e);
+                    break;
+                }
+            }
+            labels.put(path[i], new Pair<>(distance, u));
+        }
+        return labels;
+    }
+}
@@ -0,0 +1,12 @@
+package model;
+
+public interface IntHeuristic {
+    int estimate(int vertex, int target);
+
+    static IntHeuristic of(Heuristic<Integer> heuristic) {
+        if (heuristic instanceof IntHeuristic) {
+            return (IntHeuristic) heuristic;
+        }
+        return (vertex, target) -> heuristic.estimate(vertex, target);
+    }
+}
@@ -0,0 +1,26 @@
+package model;
+
+// Min-priority queue over the int indices [0, capacity) holding each index at
+// most once, as used by the Dijkstra variants.
+public interface IntPriorityQueue {
+    // Largest edge weight for which dijkstra picks Dial's buckets over a radix heap.
+    int DIAL_MAX_WEIGHT = 128;
+
+    boolean isEmpty();
+    boolean contains(int index);
+    int priority(int index);
+    void insert(int index, int priority);
+    void decreaseKey(int index, int priority);
+    int poll();
+
+    // Negative weights break the monotone queues, so they fall back to the heap.
+    static IntPriorityQueue forWeights(int capacity, int minWeight, int maxWeight, int heapArity) {
+        if (minWeight < 0) {
+            return new IndexedMinHeap(capacity, heapArity);
+        }
+        if (maxWeight <= DIAL_MAX_WEIGHT) {
+            return new BucketQueue(capacity, Math.max(maxWeight, 0));
+        }
+        return new RadixHeap(capacity);
+    }
+}
@@ -0,0 +1,95 @@
+package model;
+
+import java.util.Arrays;
+
+// BFS and DFS over an IntGraph that report vertices to a visitor and stop as
+// soon as it returns false. The queue, the stack and the visited marks are
+// kept between runs, and a vertex counts as visited when its stamp equals
+// the current run's epoch, so a reused traversal allocates nothing.
+// Not safe for concurrent use; give each thread its own.
+public final class IntTraversal {
+    private int[] queue;
+    private int[] stamps;
+    private int epoch;
+
+    public IntTraversal() {
+        this(16);
+    }
+
+    public IntTraversal(int capacity) {
+        queue = new int[Math.max(capacity, 1)];
+        stamps = new int[capacity];
+    }
+
+    // Both return true when the visitor stopped the traversal early.
+    public boolean bfs(IntGraph graph, int start, IntVisitor visitor) {
+        if (!graph.containsVertex(start))
+            return false;
+        int mark = begin(graph.capacity());
+        int head = 0;
+        int tail = 0;
+        stamps[start] = mark;
+        queue[tail++] = start;
+
+        while (head < tail) {
+            int current = queue[head++];
+            if (!visitor.visit(current)) {
+                return true;
+            }
+            for (int e = graph.firstEdge(current); e >= 0; e = graph.nextEdge(current, e)) {
+                int neighbor = graph.target(current, e);
+                if (stamps[neighbor] != mark) {
+                    stamps[neighbor] = mark;
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+        return false;
+    }
+
+    // Same visiting order as IntGraphSearch.dfs. A vertex can sit on the
+    // stack more than once, so the stack grows past capacity when needed.
+    public boolean dfs(IntGraph graph, int start, IntVisitor visitor) {
+        if (!graph.containsVertex(start))
+            return false;
+        int mark = begin(graph.capacity());
+        int top = 0;
+        queue[top++] = start;
+
+        while (top > 0) {
+            int current = queue[--top];
+            if (stamps[current] == mark)
+                continue;
+
+            stamps[current] = mark;
+            if (!visitor.visit(current)) {
+                return true;
+            }
+            for (int e = graph.firstEdge(current); e >= 0; e = graph.nextEdge(current, e)) {
+                int neighbor = graph.target(current, e);
+                if (stamps[neighbor] != mark) {
+                    if (top == queue.length) {
+                        queue = Arrays.copyOf(queue, top * 2);
+                    }
+                    queue[top++] = neighbor;
+                }
+            }
+        }
+        return false;
+    }
+
+    private int begin(int capacity) {
+        if (stamps.length < capacity) {
+            stamps = new int[capacity];
+            epoch = 0;
+        }
+        if (queue.length < capacity) {
+            queue = new int[capacity];
+        }
+        if (epoch == Integer.MAX_VALUE) {
+            Arrays.fill(stamps, 0);
+            epoch = 0;
+        }
+        return ++epoch;
+    }
+}
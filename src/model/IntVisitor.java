@@ -0,0 +1,6 @@
+package model;
+
+@FunctionalInterface
+public interface IntVisitor {
+    boolean visit(int vertex);
+}
@@ -0,0 +1,39 @@
+package model;
+
+// Grid distance between the cells row * numCols + col, scaled by the cheapest
+// cell. Every step of a maze path enters a cell costing at least minCost, so
+// the estimate never exceeds the real cost.
+public class ManhattanHeuristic implements Heuristic<Integer>, IntHeuristic {
+    private final int numCols;
+    private final int minCost;
+
+    public ManhattanHeuristic(int numCols, int minCost) {
+        this.numCols = numCols;
+        this.minCost = minCost;
+    }
+
+    public static ManhattanHeuristic forMatrix(int[][] matrix) {
+        int minCost = Integer.MAX_VALUE;
+        for (int[] row : matrix) {
+            for (int cell : row) {
+                if (cell > -1 && cell < minCost) {
+                    minCost = cell;
+                }
+            }
+        }
+        int numCols = matrix.length == 0 ? 0 : matrix[0].length;
+        return new ManhattanHeuristic(numCols, minCost == Integer.MAX_VALUE ? 0 : minCost);
+    }
+
+    @Override
+    public int estimate(int vertex, int target) {
+        int rows = Math.abs(vertex / numCols - target / numCols);
+        int cols = Math.abs(vertex % numCols - target % numCols);
+        return minCost * (rows + cols);
+    }
+
+    @Override
+    public int estimate(Integer vertex, Integer target) {
+        return estimate(vertex.intValue(), target.intValue());
+    }
+}
@@ -0,0 +1,68 @@
+package model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+// Read-only view of little-endian cells stored 1, 2 or 4 bytes wide in a
+// file. A single mapping is limited to 2 GB, so the cells are mapped in 1 GB
+// segments; the segment size is a multiple of every width, so no cell
+// straddles two segments.
+public class MappedCellGrid implements CellGrid {
+    private static final int SEGMENT_SHIFT = 30;
+    private static final int SEGMENT_MASK = (1 << SEGMENT_SHIFT) - 1;
+
+    private final ByteBuffer[] segments;
+    private final int numRows;
+    private final int numCols;
+    private final int width;
+
+    public MappedCellGrid(FileChannel channel, long position, int numRows, int numCols, int width)
+            throws IOException {
+        if (width != 1 && width != 2 && width != 4) {
+            throw new IllegalArgumentException("Cell width must be 1, 2 or 4 bytes: " + width);
+        }
+        this.numRows = numRows;
+        this.numCols = numCols;
+        this.width = width;
+
+        long size = (long) numRows * numCols * width;
+        if (position + size > channel.size()) {
+            throw new IOException("Maze file is truncated: expected " + (position + size) + " bytes");
+        }
+        int count = (int) ((size + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+        segments = new ByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            long start = (long) i << SEGMENT_SHIFT;
+            long length = Math.min(1L << SEGMENT_SHIFT, size - start);
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position + start, length)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    @Override
+    public int getNumRows() {
+        return numRows;
+    }
+
+    @Override
+    public int getNumCols() {
+        return numCols;
+    }
+
+    @Override
+    public int get(int cell) {
+        long offset = (long) cell * width;
+        ByteBuffer segment = segments[(int) (offset >>> SEGMENT_SHIFT)];
+        int index = (int) offset & SEGMENT_MASK;
+        switch (width) {
+            case 1:
+                return segment.get(index);
+            case 2:
+                return segment.getShort(index);
+            default:
+                return segment.getInt(index);
+        }
+    }
+}
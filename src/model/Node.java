@@ -1,38 +1,131 @@
 package model;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class Node<T> {
 
     private T value;
-    private List<Edge<T>> edges;
+    private int id = -1;
+    private final Arcs<T> edges = new Arcs<>(false);
+    private final Arcs<T> incomingEdges = new Arcs<>(true);
 
     public Node(T value) {
         this.value = value;
-        this.edges = new ArrayList<>();
+    }
+
+    Node(T value, int id) {
+        this(value);
+        this.id = id;
     }
 
     public T getValue() {
         return value;
     }
 
-    public void addNeighbor(Edge<T> edge) {
-        for (Edge<T> neighbor : edges) {
-            if(neighbor.getNode().equals(edge.getNode())){
-                return;
-            }
+    // The vertex id in the graph that owns the node, or -1 for a detached one.
+    public int getId() {
+        return id;
+    }
+
+    public boolean addNeighbor(Edge<T> edge) {
+        Node<T> neighbor = edge.getNode();
+        if (edges.indexOf(neighbor) >= 0) {
+            return false;
         }
         edges.add(edge);
+        neighbor.incomingEdges.add(edge);
+        return true;
     }
 
     public void removeNeighbor(Node<T> neighbor) {
-        edges.removeIf((a) -> {
-            return a.getNode().equals(neighbor);
-        });
+        int slot = edges.indexOf(neighbor);
+        if (slot >= 0) {
+            edges.removeAt(slot);
+            neighbor.incomingEdges.removeAt(neighbor.incomingEdges.indexOf(this));
+        }
     }
 
     public List<Edge<T>> getEdges() {
-        return edges;
+        return Collections.unmodifiableList(edges.list);
+    }
+
+    public List<Edge<T>> getIncomingEdges() {
+        return Collections.unmodifiableList(incomingEdges.list);
+    }
+
+    // The arcs by position, for walking them without an iterator.
+    Edge<T> getEdge(int slot) {
+        return edges.list.get(slot);
+    }
+
+    Edge<T> getIncomingEdge(int slot) {
+        return incomingEdges.list.get(slot);
+    }
+
+    int degree() {
+        return edges.list.size();
+    }
+
+    int inDegree() {
+        return incomingEdges.list.size();
+    }
+
+    // Arcs in the order they were added. Short lists are searched by scanning;
+    // past INDEXED arcs a map from the node at the other end gives the position,
+    // and removals renumber the arcs after the one taken out.
+    private static final class Arcs<T> {
+
+        private static final int INDEXED = 16;
+
+        private final List<Edge<T>> list = new ArrayList<>();
+        private final boolean incoming;
+        private Map<Node<T>, Integer> slots;
+
+        Arcs(boolean incoming) {
+            this.incoming = incoming;
+        }
+
+        private Node<T> end(Edge<T> edge) {
+            return incoming ? edge.getSource() : edge.getNode();
+        }
+
+        int indexOf(Node<T> node) {
+            if (slots != null) {
+                Integer slot = slots.get(node);
+                return slot == null ? -1 : slot;
+            }
+            for (int i = 0; i < list.size(); i++) {
+                if (end(list.get(i)) == node) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        void add(Edge<T> edge) {
+            list.add(edge);
+            if (slots != null) {
+                slots.put(end(edge), list.size() - 1);
+            } else if (list.size() > INDEXED) {
+                slots = new HashMap<>();
+                for (int i = 0; i < list.size(); i++) {
+                    slots.put(end(list.get(i)), i);
+                }
+            }
+        }
+
+        void removeAt(int slot) {
+            Edge<T> removed = list.remove(slot);
+            if (slots != null) {
+                slots.remove(end(removed));
+                for (int i = slot; i < list.size(); i++) {
+                    slots.put(end(list.get(i)), i);
+                }
+            }
+        }
     }
-}
\ No newline at end of file
+}
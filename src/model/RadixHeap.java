@@ -0,0 +1,130 @@
+package model;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+// Radix heap for monotone non-negative priorities. Bucket i holds the indices
+// whose priority first differs from the last polled one at bit i - 1, so each
+// index only moves towards bucket 0 and is redistributed at most 32 times.
+public class RadixHeap implements IntPriorityQueue {
+    private static final int BUCKETS = 33;
+
+    private final int[] heads = new int[BUCKETS];
+    private final int[] next;
+    private final int[] previous;
+    private final int[] priorities;
+    private final int[] bucketOf;
+    private int size;
+    private int last;
+
+    public RadixHeap(int capacity) {
+        this.next = new int[capacity];
+        this.previous = new int[capacity];
+        this.priorities = new int[capacity];
+        this.bucketOf = new int[capacity];
+        Arrays.fill(heads, -1);
+        Arrays.fill(bucketOf, -1);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(int index) {
+        return bucketOf[index] >= 0;
+    }
+
+    @Override
+    public int priority(int index) {
+        return priorities[index];
+    }
+
+    @Override
+    public void insert(int index, int priority) {
+        if (contains(index)) {
+            throw new IllegalArgumentException("Index already queued: " + index);
+        }
+        checkMonotone(priority);
+        priorities[index] = priority;
+        link(index, bucket(priority));
+        size++;
+    }
+
+    @Override
+    public void decreaseKey(int index, int priority) {
+        if (!contains(index)) {
+            throw new NoSuchElementException("Index not queued: " + index);
+        }
+        if (priority > priorities[index]) {
+            throw new IllegalArgumentException("New priority is larger than the current one");
+        }
+        checkMonotone(priority);
+        unlink(index);
+        priorities[index] = priority;
+        link(index, bucket(priority));
+    }
+
+    @Override
+    public int poll() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        if (heads[0] < 0) {
+            int i = 1;
+            while (heads[i] < 0) {
+                i++;
+            }
+            int min = Integer.MAX_VALUE;
+            for (int index = heads[i]; index >= 0; index = next[index]) {
+                min = Math.min(min, priorities[index]);
+            }
+            last = min;
+            int index = heads[i];
+            heads[i] = -1;
+            while (index >= 0) {
+                int following = next[index];
+                link(index, bucket(priorities[index]));
+                index = following;
+            }
+        }
+        int index = heads[0];
+        unlink(index);
+        size--;
+        return index;
+    }
+
+    private void checkMonotone(int priority) {
+        if (priority < last) {
+            throw new IllegalArgumentException("Priority " + priority + " is below the last polled " + last);
+        }
+    }
+
+    private int bucket(int priority) {
+        return priority == last ? 0 : 32 - Integer.numberOfLeadingZeros(priority ^ last);
+    }
+
+    private void link(int index, int bucket) {
+        int head = heads[bucket];
+        next[index] = head;
+        previous[index] = -1;
+        if (head >= 0) {
+            previous[head] = index;
+        }
+        heads[bucket] = index;
+        bucketOf[index] = bucket;
+    }
+
+    private void unlink(int index) {
+        if (previous[index] >= 0) {
+            next[previous[index]] = next[index];
+        } else {
+            heads[bucketOf[index]] = next[index];
+        }
+        if (next[index] >= 0) {
+            previous[next[index]] = previous[index];
+        }
+        bucketOf[index] = -1;
+    }
+}
@@ -0,0 +1,8 @@
+package model;
+
+// A minimum spanning forest engine over edges given as parallel arrays, as
+// FilterKruskal::run and Boruvka::run are. Returns the indices of the chosen
+// edges, cheapest first.
+interface SpanningForest {
+    int[] run(int n, int[] sources, int[] targets, int[] weights, int m);
+}
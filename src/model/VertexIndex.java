@@ -0,0 +1,50 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Assigns dense int indices to vertices so algorithms can keep their working
+// state in primitive arrays and translate back to T only for the result.
+public class VertexIndex<T> {
+    private final List<T> values;
+    private final Map<T, Integer> indices;
+
+    public VertexIndex() {
+        values = new ArrayList<>();
+        indices = new HashMap<>();
+    }
+
+    public VertexIndex(Collection<T> vertices) {
+        values = new ArrayList<>(vertices.size());
+        indices = new HashMap<>(vertices.size() * 2);
+        for (T vertex : vertices) {
+            add(vertex);
+        }
+    }
+
+    public int add(T vertex) {
+        Integer index = indices.get(vertex);
+        if (index == null) {
+            index = values.size();
+            values.add(vertex);
+            indices.put(vertex, index);
+        }
+        return index;
+    }
+
+    public int indexOf(Object vertex) {
+        Integer index = indices.get(vertex);
+        return index == null ? -1 : index;
+    }
+
+    public T get(int index) {
+        return values.get(index);
+    }
+
+    public int size() {
+        return values.size();
+    }
+}
@@ -0,0 +1,94 @@
+package model;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+// Gives every vertex of a mutable graph a dense int id for as long as it is
+// in the graph, so algorithms can size their state by capacity() and keep it
+// in primitive arrays. Unlike VertexIndex it supports removal: the freed id
+// is handed to the next vertex interned, which keeps the ids dense.
+public class VertexInterner<T> {
+    private final Map<T, Integer> ids = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private Object[] values = new Object[16];
+    private int[] free = new int[16];
+    private int freeCount;
+    private int capacity;
+
+    public int intern(T vertex) {
+        Integer id = ids.get(vertex);
+        if (id != null) {
+            return id;
+        }
+        int v;
+        if (freeCount > 0) {
+            v = free[--freeCount];
+        } else {
+            v = capacity++;
+            if (v == values.length) {
+                values = Arrays.copyOf(values, v * 2);
+            }
+        }
+        ids.put(vertex, v);
+        values[v] = vertex;
+        live.set(v);
+        return v;
+    }
+
+    public int idOf(Object vertex) {
+        Integer id = ids.get(vertex);
+        return id == null ? -1 : id;
+    }
+
+    // Returns the id the vertex had, or -1 if it was not interned.
+    public int remove(Object vertex) {
+        Integer id = ids.remove(vertex);
+        if (id == null) {
+            return -1;
+        }
+        values[id] = null;
+        live.clear(id);
+        if (freeCount == free.length) {
+            free = Arrays.copyOf(free, freeCount * 2);
+        }
+        free[freeCount++] = id;
+        return id;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T value(int id) {
+        return (T) values[id];
+    }
+
+    public boolean contains(int id) {
+        return id >= 0 && live.get(id);
+    }
+
+    // Live ids in increasing order: for (int v = first(); v >= 0; v = next(v))
+    public int first() {
+        return live.nextSetBit(0);
+    }
+
+    public int next(int id) {
+        return live.nextSetBit(id + 1);
+    }
+
+    // One past the highest id ever handed out.
+    public int capacity() {
+        return capacity;
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    public void clear() {
+        ids.clear();
+        live.clear();
+        Arrays.fill(values, 0, capacity, null);
+        freeCount = 0;
+        capacity = 0;
+    }
+}
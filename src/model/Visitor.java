@@ -0,0 +1,10 @@
+package model;
+
+// Called for each vertex a traversal reaches; returning false stops it.
+// Graphs with a read-write lock call it while holding the read lock, so it
+// must not change the graph it walks: the write lock would never be granted.
+// Collect the changes and apply them once the traversal returns.
+@FunctionalInterface
+public interface Visitor<T> {
+    boolean visit(T vertex);
+}
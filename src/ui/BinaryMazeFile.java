@@ -0,0 +1,147 @@
+package ui;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import exceptions.InvalidCellValueException;
+import model.CellGrid;
+import model.MappedCellGrid;
+
+// Binary maze layout, all little-endian:
+//   "MAZE", version byte, cell width byte (1, 2 or 4), two reserved bytes,
+//   int rows, int cols, int endRow, int endCol, int entrance count,
+//   (int row, int col) per entrance, then rows * cols signed cells.
+// The cell width is the narrowest that holds the largest cost. Opening a
+// file maps the cells instead of copying them.
+public final class BinaryMazeFile {
+    private static final byte[] MAGIC = { 'M', 'A', 'Z', 'E' };
+    private static final byte VERSION = 1;
+    private static final int HEADER_SIZE = 28;
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private BinaryMazeFile() {
+    }
+
+    public static boolean isBinary(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.size() >= HEADER_SIZE && readFully(channel, 0, MAGIC.length).equals(ByteBuffer.wrap(MAGIC));
+        }
+    }
+
+    public static Maze open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = readFully(channel, 0, HEADER_SIZE);
+            for (byte b : MAGIC) {
+                if (header.get() != b) {
+                    throw new IOException("Not a binary maze file: " + file);
+                }
+            }
+            if (header.get() != VERSION) {
+                throw new IOException("Unsupported binary maze version in " + file);
+            }
+            int width = header.get();
+            header.getShort();
+            int numRows = header.getInt();
+            int numCols = header.getInt();
+            int endRow = header.getInt();
+            int endCol = header.getInt();
+            int numEntrances = header.getInt();
+            // Vertex ids are row * numCols + col, so the cell count must fit
+            // an int; a bad count is caught here rather than as a huge buffer.
+            if (width != 1 && width != 2 && width != 4) {
+                throw new IOException("Invalid cell width " + width + " in " + file);
+            }
+            if (numRows <= 0 || numCols <= 0 || (long) numRows * numCols > Integer.MAX_VALUE) {
+                throw new IOException("Invalid maze size " + numRows + " x " + numCols + " in " + file);
+            }
+            if (numEntrances < 0 || HEADER_SIZE + (long) numEntrances * 8 > channel.size()) {
+                throw new IOException("Invalid entrance count " + numEntrances + " in " + file);
+            }
+
+            ByteBuffer list = readFully(channel, HEADER_SIZE, numEntrances * 8);
+            Integer[][] entrances = new Integer[numEntrances][];
+            for (int i = 0; i < numEntrances; i++) {
+                int row = list.getInt();
+                int col = list.getInt();
+                entrances[i] = new Integer[] { row, col };
+            }
+
+            long cellsStart = HEADER_SIZE + (long) numEntrances * 8;
+            CellGrid cells = new MappedCellGrid(channel, cellsStart, numRows, numCols, width);
+            return new Maze(cells, entrances, endRow, endCol);
+        }
+    }
+
+    public static void write(Maze maze, Path file) throws IOException {
+        CellGrid cells = maze.getCells();
+        int numCells = maze.getNumRows() * maze.getNumCols();
+        int max = 0;
+        for (int v = 0; v < numCells; v++) {
+            max = Math.max(max, cells.get(v));
+        }
+        int width = max <= Byte.MAX_VALUE ? 1 : max <= Short.MAX_VALUE ? 2 : 4;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.put(MAGIC).put(VERSION).put((byte) width).putShort((short) 0);
+            buffer.putInt(maze.getNumRows()).putInt(maze.getNumCols());
+            buffer.putInt(maze.getEndRow()).putInt(maze.getEndCol());
+            buffer.putInt(maze.getEntrances().length);
+            for (Integer[] entrance : maze.getEntrances()) {
+                if (buffer.remaining() < 8) {
+                    drain(channel, buffer);
+                }
+                buffer.putInt(entrance[0]).putInt(entrance[1]);
+            }
+
+            for (int v = 0; v < numCells; v++) {
+                if (buffer.remaining() < width) {
+                    drain(channel, buffer);
+                }
+                int value = cells.get(v);
+                switch (width) {
+                    case 1:
+                        buffer.put((byte) value);
+                        break;
+                    case 2:
+                        buffer.putShort((short) value);
+                        break;
+                    default:
+                        buffer.putInt(value);
+                }
+            }
+            drain(channel, buffer);
+        }
+    }
+
+    public static void convert(Path textFile, Path binaryFile) throws IOException, InvalidCellValueException {
+        Maze maze;
+        try (MazeReader reader = MazeReader.open(textFile)) {
+            maze = reader.read();
+        }
+        write(maze, binaryFile);
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Maze file is truncated");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
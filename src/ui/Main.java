@@ -1,8 +1,53 @@
 package ui;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import exceptions.InvalidCellValueException;
+
 public class Main {
     public static void main(String[] args) {
         Menu menu = new Menu();
-        menu.displayMenu();
+        while (args.length > 0 && (args[0].equals("--rle") || args[0].startsWith("--parallel"))) {
+            if (args[0].equals("--rle")) {
+                menu.setPathFormat(PathWriter.Format.RUN_LENGTH);
+            } else if (args[0].startsWith("--parallel=")) {
+                menu.setPool(new ForkJoinPool(Integer.parseInt(args[0].substring("--parallel=".length()))));
+            } else {
+                menu.setPool(ForkJoinPool.commonPool());
+            }
+            args = Arrays.copyOfRange(args, 1, args.length);
+        }
+
+        try {
+            if (args.length == 3 && args[0].equals("--convert")) {
+                BinaryMazeFile.convert(Path.of(args[1]), Path.of(args[2]));
+                return;
+            }
+            if (args.length == 2 && args[0].equals("--batch")) {
+                menu.load(Path.of(args[1]));
+                menu.answerQueries(System.in, System.out);
+                return;
+            }
+            if (args.length == 3 && args[0].equals("--serve")) {
+                menu.load(Path.of(args[1]));
+                menu.serve(Integer.parseInt(args[2]));
+                return;
+            }
+        } catch (InvalidCellValueException e) {
+            System.out.println(e.getMessage());
+            return;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (args.length > 0) {
+            menu.displayMenu(Path.of(args[0]));
+        } else {
+            menu.displayMenu();
+        }
     }
 }
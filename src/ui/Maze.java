@@ -0,0 +1,49 @@
+package ui;
+
+import model.CellGrid;
+
+public class Maze {
+    private int numRows;
+    private int numCols;
+    private CellGrid cells;
+    private Integer[][] entrances;
+    private int endRow;
+    private int endCol;
+
+    public Maze(int[][] matrix, Integer[][] entrances, int endRow, int endCol) {
+        this(CellGrid.of(matrix), entrances, endRow, endCol);
+    }
+
+    public Maze(CellGrid cells, Integer[][] entrances, int endRow, int endCol) {
+        this.numRows = cells.getNumRows();
+        this.numCols = cells.getNumCols();
+        this.cells = cells;
+        this.entrances = entrances;
+        this.endRow = endRow;
+        this.endCol = endCol;
+    }
+
+    public int getNumRows() {
+        return numRows;
+    }
+
+    public int getNumCols() {
+        return numCols;
+    }
+
+    public CellGrid getCells() {
+        return cells;
+    }
+
+    public Integer[][] getEntrances() {
+        return entrances;
+    }
+
+    public int getEndRow() {
+        return endRow;
+    }
+
+    public int getEndCol() {
+        return endCol;
+    }
+}
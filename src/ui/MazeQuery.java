@@ -0,0 +1,25 @@
+package ui;
+
+public class MazeQuery {
+    private Integer[][] entrances;
+    private int endRow;
+    private int endCol;
+
+    public MazeQuery(Integer[][] entrances, int endRow, int endCol) {
+        this.entrances = entrances;
+        this.endRow = endRow;
+        this.endCol = endCol;
+    }
+
+    public Integer[][] getEntrances() {
+        return entrances;
+    }
+
+    public int getEndRow() {
+        return endRow;
+    }
+
+    public int getEndCol() {
+        return endCol;
+    }
+}
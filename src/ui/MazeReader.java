@@ -0,0 +1,144 @@
+package ui;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.InputMismatchException;
+import java.util.NoSuchElementException;
+
+import exceptions.InvalidCellValueException;
+
+// Reads the text maze format (rows, cols, the matrix, the entrance count, the
+// entrances, the exit) straight from bytes. Numbers are decoded by hand from
+// a direct buffer, which is much cheaper than Scanner's regex matching.
+public class MazeReader implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    public MazeReader(ReadableByteChannel channel) {
+        this.channel = channel;
+        buffer.flip();
+    }
+
+    public MazeReader(InputStream in) {
+        this(Channels.newChannel(in));
+    }
+
+    public static MazeReader open(Path file) throws IOException {
+        return new MazeReader(FileChannel.open(file, StandardOpenOption.READ));
+    }
+
+    public Maze read() throws IOException, InvalidCellValueException {
+        int numRows = nextInt();
+        int numCols = nextInt();
+        int[][] matrix = new int[numRows][numCols];
+
+        for (int i = 0; i < numRows; i++) {
+            int[] row = matrix[i];
+            for (int j = 0; j < numCols; j++) {
+                int value = nextInt();
+                if (value < -1) {
+                    throw new InvalidCellValueException(value, i, j);
+                }
+                row[j] = value;
+            }
+        }
+
+        MazeQuery query = readQuery();
+        return new Maze(matrix, query.getEntrances(), query.getEndRow(), query.getEndCol());
+    }
+
+    // The part of the maze format after the matrix: the entrances and the exit.
+    public MazeQuery readQuery() throws IOException {
+        int numEntrances = nextInt();
+        Integer[][] entrances = new Integer[numEntrances][];
+        for (int i = 0; i < numEntrances; i++) {
+            int row = nextInt();
+            int col = nextInt();
+            entrances[i] = new Integer[] { row, col };
+        }
+
+        int endRow = nextInt();
+        int endCol = nextInt();
+        return new MazeQuery(entrances, endRow, endCol);
+    }
+
+    public boolean hasNext() throws IOException {
+        int c = nextByte();
+        while (isSpace(c)) {
+            c = nextByte();
+        }
+        if (c < 0) {
+            return false;
+        }
+        buffer.position(buffer.position() - 1);
+        return true;
+    }
+
+    public int nextInt() throws IOException {
+        int c = nextByte();
+        while (isSpace(c)) {
+            c = nextByte();
+        }
+        if (c < 0) {
+            throw new NoSuchElementException("Unexpected end of maze input");
+        }
+
+        boolean negative = c == '-';
+        if (negative || c == '+') {
+            c = nextByte();
+        }
+        if (c < '0' || c > '9') {
+            throw new InputMismatchException("Expected a number but found '" + (char) c + "'");
+        }
+
+        long value = 0;
+        while (c >= '0' && c <= '9') {
+            value = value * 10 + (c - '0');
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                throw new InputMismatchException("Number out of int range");
+            }
+            c = nextByte();
+        }
+        if (c >= 0 && !isSpace(c)) {
+            throw new InputMismatchException("Unexpected character '" + (char) c + "' after a number");
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            throw new InputMismatchException("Number out of int range");
+        }
+        return (int) value;
+    }
+
+    private static boolean isSpace(int c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t' || c == '\f';
+    }
+
+    private int nextByte() throws IOException {
+        if (!buffer.hasRemaining()) {
+            buffer.clear();
+            int read;
+            do {
+                read = channel.read(buffer);
+            } while (read == 0);
+            buffer.flip();
+            if (read < 0) {
+                return -1;
+            }
+        }
+        return buffer.get() & 0xFF;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -1,197 +1,260 @@
 package ui;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
-import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
-import model.AdjacencyList;
-import model.IGraph;
-import model.Pair;
+import exceptions.InvalidCellValueException;
+import model.CellGrid;
+import model.ComponentIndex;
+import model.ImplicitGridGraph;
+import model.IntGraph;
+import model.IntGraphSearch;
 
 public class Menu {
-    private IGraph<Integer> graph;
-    private int[][] matrix;
+    private IntGraph graph;
+    private IntGraph reverseGraph;
+    private ComponentIndex components;
+    private CellGrid cells;
     private int numRows;
     private int numCols;
     private int endCol;
     private int endRow;
     private Integer[][] entrances;
+    private ForkJoinPool pool;
+    private PathWriter.Format pathFormat = PathWriter.Format.TEXT;
 
-    public Menu() {
-        graph = new AdjacencyList<>();
-        // graph = new AdjacencyMatrix<>();
+    public void displayMenu() {
+        try (MazeReader reader = new MazeReader(System.in)) {
+            displayMenu(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
-    public void displayMenu() {
-        Scanner scan = new Scanner(System.in);
+    public void displayMenu(Path file) {
+        try {
+            load(file);
+        } catch (InvalidCellValueException e) {
+            System.out.println(e.getMessage());
+            return;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        printSolution();
+    }
 
-        numRows = scan.nextInt();
+    private void displayMenu(MazeReader reader) throws IOException {
+        try {
+            setMaze(reader.read());
+        } catch (InvalidCellValueException e) {
+            System.out.println(e.getMessage());
+            return;
+        }
+        printSolution();
+    }
 
-        numCols = scan.nextInt();
+    // Binary mazes are mapped rather than parsed, see BinaryMazeFile.
+    public void load(Path file) throws IOException, InvalidCellValueException {
+        if (BinaryMazeFile.isBinary(file)) {
+            setMaze(BinaryMazeFile.open(file));
+            return;
+        }
+        try (MazeReader reader = MazeReader.open(file)) {
+            setMaze(reader.read());
+        }
+    }
 
-        matrix = new int[numRows][numCols];
+    // Answers a stream of queries (entrances and exit, as at the end of the
+    // maze format) against the loaded maze. The graph is built once and only
+    // read afterwards, so each answer costs one search.
+    public void answerQueries(InputStream in, OutputStream out) throws IOException {
+        MazeReader reader = new MazeReader(in);
+        PathWriter writer = new PathWriter(Channels.newChannel(out), numCols, pathFormat);
+        while (reader.hasNext()) {
+            answer(reader.readQuery(), writer);
+            writer.flush();
+        }
+    }
 
-        for (int i = 0; i < numRows; i++) {
-            for (int j = 0; j < numCols; j++) {
-                matrix[i][j] = scan.nextInt();
+    // Serves queries to one loopback client at a time until the process ends.
+    public void serve(int port) throws IOException {
+        try (ServerSocket server = new ServerSocket(port, 50, InetAddress.getLoopbackAddress())) {
+            while (true) {
+                try (Socket client = server.accept()) {
+                    answerQueries(client.getInputStream(), client.getOutputStream());
+                } catch (IOException | RuntimeException e) {
+                    System.err.println("Query connection failed: " + e.getMessage());
+                }
             }
         }
+    }
 
-        int numEntrances = scan.nextInt();
-
-        entrances = new Integer[numEntrances][2];
-        for (int i = 0; i < numEntrances; i++) {
-            int row = scan.nextInt();
-            int col = scan.nextInt();
-            entrances[i] = new Integer[] { row, col };
+    private void printSolution() {
+        PathWriter writer = new PathWriter(Channels.newChannel(System.out), numCols, pathFormat);
+        try {
+            answer(new MazeQuery(entrances, endRow, endCol), writer);
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
+    }
 
-        endRow = scan.nextInt();
-        endCol = scan.nextInt();
-        for (String res : solve()) {
-            System.out.println(res);
+    List<String> solve() {
+        return solve(new MazeQuery(entrances, endRow, endCol));
+    }
+
+    List<String> solve(MazeQuery query) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PathWriter writer = new PathWriter(Channels.newChannel(out), numCols, pathFormat);
+        try {
+            answer(query, writer);
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-        scan.close();
+        return List.of(out.toString(StandardCharsets.US_ASCII).split(System.lineSeparator()));
     }
 
-    List<String> solve() {
-        buildGraph();
+    // Arc weights are the cost of the cell entered, so one Dijkstra from the
+    // exit over the reversed graph prices every entrance at once. Only the
+    // cheapest entrance (the first one on ties) gets its path traced forward.
+    private void answer(MazeQuery query, PathWriter writer) throws IOException {
+        if (graph == null) {
+            buildGraph();
+        }
+
+        Integer[][] queryEntrances = query.getEntrances();
+        int endVertex = query.getEndRow() * numCols + query.getEndCol();
+        int[] entranceCosts = pool == null ? priceEntrances(queryEntrances, endVertex)
+                : priceEntrancesInParallel(queryEntrances, endVertex);
 
         int numSolutions = 0;
-        List<Integer> minPath = null;
+        int minStart = -1;
         int minCost = Integer.MAX_VALUE;
 
-        for (Integer[] entrance : entrances) {
-            int startRow = entrance[0];
-            int startCol = entrance[1];
-            if (existsAPath(startRow, startCol, endRow, endCol)) {
-                List<Integer> path = findShortestPath(startRow, startCol, endRow, endCol);
+        for (int i = 0; i < queryEntrances.length; i++) {
+            if (entranceCosts[i] != Integer.MAX_VALUE) {
                 numSolutions++;
-                int cost = calculateCost(path);
-                if (cost < minCost) {
-                    minPath = path;
-                    minCost = cost;
+                if (entranceCosts[i] < minCost) {
+                    minStart = queryEntrances[i][0] * numCols + queryEntrances[i][1];
+                    minCost = entranceCosts[i];
                 }
             }
         }
-        List<String> result = new ArrayList<>();
         // Print result
         if (numSolutions > 0) {
-            result.add(String.valueOf(numSolutions));
-            result.add(printPath(minPath));
-            result.add(String.valueOf(minCost));
+            writer.writeLine(numSolutions);
+            writer.writePath(findShortestPath(minStart, endVertex));
+            writer.writeLine(minCost);
         } else {
-            result.add("-1");
+            writer.writeLine(-1);
         }
-        return result;
     }
 
-    private boolean existsAPath(int startRow, int startCol, int endRow, int endCol) {
-        int startVertex = startRow * numCols + startCol;
-        int endVertex = endRow * numCols + endCol;
-
-        List<Integer> res = graph.bfs(startVertex);
-        return res != null? res.contains(endVertex):false;
-    }
-
-    private void buildGraph() {
-        int vertex = 0;
-        for (int i = 0; i < numRows; i++) {
-            for (int j = 0; j < numCols; j++) {
-                if (matrix[i][j] > -1) {
-                    graph.addVertex(vertex);
-                }
-                vertex++;
-            }
+    // The search is skipped outright when no entrance shares the exit's
+    // component.
+    private int[] priceEntrances(Integer[][] queryEntrances, int endVertex) {
+        int[] entranceCosts = new int[queryEntrances.length];
+        Arrays.fill(entranceCosts, Integer.MAX_VALUE);
+        boolean reachable = false;
+        for (Integer[] entrance : queryEntrances) {
+            reachable |= components.connected(entrance[0] * numCols + entrance[1], endVertex);
         }
-
-        for (int i = 0; i < numRows; i++) {
-            for (int j = 0; j < numCols; j++) {
-                if (matrix[i][j] >= 0) {
-                    int currVertex = i * numCols + j;
-
-                    if (i > 0 && matrix[i - 1][j] > -1) {
-                        int neighbor = (i - 1) * numCols + j;
-                        int weight = matrix[i - 1][j];
-                        graph.addEdge(currVertex, neighbor, weight);
-                    }
-                    if (i < numRows - 1 && matrix[i + 1][j] > -1) {
-                        int neighbor = (i + 1) * numCols + j;
-                        int weight = matrix[i + 1][j];
-                        graph.addEdge(currVertex, neighbor, weight);
-                    }
-                    if (j > 0 && matrix[i][j - 1] > -1) {
-                        int neighbor = i * numCols + (j - 1);
-                        int weight = matrix[i][j - 1];
-                        graph.addEdge(currVertex, neighbor, weight);
-                    }
-                    if (j < numCols - 1 && matrix[i][j + 1] > -1) {
-                        int neighbor = i * numCols + (j + 1);
-                        int weight = matrix[i][j + 1];
-                        graph.addEdge(currVertex, neighbor, weight);
-                    }
-                }
+        if (!reachable) {
+            return entranceCosts;
+        }
+        int[] costs = IntGraphSearch.dijkstra(reverseGraph, endVertex, new int[graph.capacity()]);
+        for (int i = 0; i < queryEntrances.length; i++) {
+            int startVertex = queryEntrances[i][0] * numCols + queryEntrances[i][1];
+            if (graph.containsVertex(startVertex)) {
+                entranceCosts[i] = costs[startVertex];
             }
         }
+        return entranceCosts;
     }
 
-    private List<Integer> findShortestPath(int startRow, int startCol, int endRow, int endCol) {
+    // One point-to-point search per entrance on the pool. The graph is only
+    // read, and each search has its own arrays, so they run independently;
+    // costs land at their entrance's index, which keeps the reduction order
+    // and thus the tie-break identical to the sequential mode.
+    private int[] priceEntrancesInParallel(Integer[][] queryEntrances, int endVertex) {
+        int[] entranceCosts = new int[queryEntrances.length];
+        pool.submit(() -> IntStream.range(0, queryEntrances.length).parallel().forEach(i -> {
+            int startVertex = queryEntrances[i][0] * numCols + queryEntrances[i][1];
+            entranceCosts[i] = Integer.MAX_VALUE;
+            if (components.connected(startVertex, endVertex)) {
+                entranceCosts[i] = IntGraphSearch.bidirectionalDijkstra(graph, reverseGraph, startVertex, endVertex,
+                        new int[graph.capacity()]);
+            }
+        })).join();
+        return entranceCosts;
+    }
 
-        int startVertex = startRow * numCols + startCol;
-        int endVertex = endRow * numCols + endCol;
+    private void buildGraph() {
+        graph = new ImplicitGridGraph(cells);
+        reverseGraph = graph.reverse();
+        components = ComponentIndex.of(graph);
+    }
 
-        Map<Integer, Pair<Integer, Integer>> distances = graph.dijkstra(startVertex);
+    private int[] findShortestPath(int startVertex, int endVertex) {
+        int[] previous = new int[graph.capacity()];
+        int cost = IntGraphSearch.bidirectionalDijkstra(graph, reverseGraph, startVertex, endVertex, previous);
 
-        if (!distances.containsKey(endVertex)) {
+        if (cost == Integer.MAX_VALUE) {
             return null;
         }
 
-        List<Integer> path = new ArrayList<>();
-        int currentVertex = endVertex;
-
-        while (currentVertex != startVertex) {
-            path.add(currentVertex);
-            Integer previousVertex = distances.get(currentVertex).getSecond();
-            if (previousVertex == null) {
-                return null;
-            }
-            currentVertex = previousVertex;
+        int length = 1;
+        for (int vertex = endVertex; vertex != startVertex; vertex = previous[vertex]) {
+            length++;
+        }
+        int[] path = new int[length];
+        for (int i = length - 1, vertex = endVertex; i >= 0; i--, vertex = previous[vertex]) {
+            path[i] = vertex;
         }
-        path.add(startVertex);
-        Collections.reverse(path);
 
         return path;
     }
 
-    private int calculateCost(List<Integer> path) {
-        int cost = 0;
-        for (int i = 1; i < path.size(); i++) {
-            int vertex = path.get(i);
-            int row = vertex / numCols;
-            int col = vertex % numCols;
-            cost += matrix[row][col] >= 0 ? matrix[row][col] : 0;
-        }
-        return cost;
+    // A pool switches solve to one search per entrance spread over its
+    // threads; null goes back to the single reverse search. The per-entrance
+    // searches do strictly more work than the one reverse Dijkstra, which
+    // prices every entrance at once, so they only pay off in wall time when
+    // there are spare cores and few entrances far from the exit.
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
     }
 
-    private String printPath(List<Integer> path) {
-        String pathString = "";
-        for (int i = 0; i < path.size(); i++) {
-            int vertex = path.get(i);
-            int row = vertex / numCols;
-            int col = vertex % numCols;
-            pathString += "(" + row + "," + col + ")";
-            if (i < path.size() - 1) {
-                pathString += " -> ";
-            }
-        }
-        return pathString;
+    public void setPathFormat(PathWriter.Format pathFormat) {
+        this.pathFormat = pathFormat;
+    }
+
+    public void setMaze(Maze maze) {
+        graph = null;
+        cells = maze.getCells();
+        numRows = maze.getNumRows();
+        numCols = maze.getNumCols();
+        entrances = maze.getEntrances();
+        endRow = maze.getEndRow();
+        endCol = maze.getEndCol();
     }
 
     public void setMatrix(int[][] matrix) {
-        this.matrix = matrix;
+        this.graph = null;
+        this.cells = CellGrid.of(matrix);
     }
 
     public void setNumRows(int numRows) {
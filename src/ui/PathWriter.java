@@ -0,0 +1,132 @@
+package ui;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+// Writes result lines straight into a channel through one reusable buffer,
+// encoding paths cell by cell so a path of any length builds no strings.
+// TEXT is the usual "(r,c) -> (r,c)" form. RUN_LENGTH is the start cell
+// followed by the moves U, D, L, R, each with its repeat count when above
+// one: "(0,3) D R2 U" becomes "(0,3) DR2U".
+public class PathWriter implements Flushable {
+    public enum Format {
+        TEXT, RUN_LENGTH
+    }
+
+    private static final byte[] NEWLINE = System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ARROW = " -> ".getBytes(StandardCharsets.US_ASCII);
+    // Enough for "(" + int + "," + int + ")" + " -> " or a move and its count.
+    private static final int MAX_ITEM = 32;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final int numCols;
+    private final Format format;
+
+    public PathWriter(WritableByteChannel channel, int numCols, Format format) {
+        this.channel = channel;
+        this.numCols = numCols;
+        this.format = format;
+    }
+
+    public void writeLine(String line) throws IOException {
+        for (int i = 0; i < line.length(); i++) {
+            ensure(1);
+            buffer.put((byte) line.charAt(i));
+        }
+        ensure(NEWLINE.length);
+        buffer.put(NEWLINE);
+    }
+
+    public void writeLine(int value) throws IOException {
+        ensure(MAX_ITEM);
+        putInt(value);
+        buffer.put(NEWLINE);
+    }
+
+    public void writePath(int[] path) throws IOException {
+        ensure(MAX_ITEM);
+        putCell(path[0]);
+        if (format == Format.TEXT) {
+            for (int i = 1; i < path.length; i++) {
+                ensure(MAX_ITEM);
+                buffer.put(ARROW);
+                putCell(path[i]);
+            }
+        } else if (path.length > 1) {
+            buffer.put((byte) ' ');
+            int i = 1;
+            while (i < path.length) {
+                byte move = move(path[i - 1], path[i]);
+                int run = 1;
+                while (i + run < path.length && move(path[i + run - 1], path[i + run]) == move) {
+                    run++;
+                }
+                ensure(MAX_ITEM);
+                buffer.put(move);
+                if (run > 1) {
+                    putInt(run);
+                }
+                i += run;
+            }
+        }
+        ensure(NEWLINE.length);
+        buffer.put(NEWLINE);
+    }
+
+    private byte move(int from, int to) {
+        int step = to - from;
+        if (step == -numCols) {
+            return 'U';
+        }
+        if (step == numCols) {
+            return 'D';
+        }
+        return step < 0 ? (byte) 'L' : (byte) 'R';
+    }
+
+    private void putCell(int vertex) {
+        buffer.put((byte) '(');
+        putInt(vertex / numCols);
+        buffer.put((byte) ',');
+        putInt(vertex % numCols);
+        buffer.put((byte) ')');
+    }
+
+    private void putInt(int value) {
+        long remaining = value;
+        if (remaining < 0) {
+            buffer.put((byte) '-');
+            remaining = -remaining;
+        }
+        int start = buffer.position();
+        do {
+            buffer.put((byte) ('0' + remaining % 10));
+            remaining /= 10;
+        } while (remaining > 0);
+        for (int i = start, j = buffer.position() - 1; i < j; i++, j--) {
+            byte digit = buffer.get(i);
+            buffer.put(i, buffer.get(j));
+            buffer.put(j, digit);
+        }
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,64 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+public class BoruvkaTest {
+
+    @Test
+    public void testMatchesFilterKruskal() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        for (int n : new int[] { 1, 2, 50, 3000, 40000 }) {
+            Random random = new Random(n);
+            int m = n * 3;
+            int[] sources = new int[m];
+            int[] targets = new int[m];
+            int[] weights = new int[m];
+            for (int i = 0; i < m; i++) {
+                sources[i] = random.nextInt(n);
+                targets[i] = random.nextInt(n);
+                weights[i] = random.nextInt(8) - 2;
+            }
+            int[] expected = FilterKruskal.run(n, sources, targets, weights, m);
+            assertArrayEquals(expected, Boruvka.run(n, sources, targets, weights, m, pool));
+            assertArrayEquals(expected, Boruvka.run(n, sources, targets, weights, m));
+        }
+        pool.shutdown();
+    }
+
+    @Test
+    public void testGraphsAgreeOnForestWeight() {
+        Random random = new Random(3);
+        CsrGraph csr = new CsrGraph();
+        AdjacencyList<Integer> list = new AdjacencyList<>();
+        DenseAdjacencyMatrix<Integer> dense = new DenseAdjacencyMatrix<>();
+        for (int e = 0; e < 2000; e++) {
+            int u = random.nextInt(400);
+            int v = random.nextInt(400);
+            int weight = random.nextInt(50);
+            for (IGraph<Integer> graph : List.<IGraph<Integer>>of(csr, list, dense)) {
+                graph.addEdge(u, v, weight);
+                graph.addEdge(v, u, weight);
+            }
+        }
+        int expected = weight(csr.kruskalMST());
+        assertEquals(expected, weight(csr.boruvkaMST()));
+        assertEquals(expected, weight(list.boruvkaMST()));
+        assertEquals(expected, weight(dense.boruvkaMST()));
+        assertEquals(expected, weight(csr.freeze().boruvkaMST()));
+    }
+
+    int weight(List<Edge<Integer>> edges) {
+        int total = 0;
+        for (Edge<Integer> edge : edges) {
+            total += edge.getWeight();
+        }
+        return total;
+    }
+}
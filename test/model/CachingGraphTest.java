@@ -0,0 +1,124 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.junit.Test;
+
+public class CachingGraphTest {
+
+    AdjacencyList<String> path() {
+        AdjacencyList<String> graph = new AdjacencyList<>();
+        graph.addEdge("A", "B", 1);
+        graph.addEdge("B", "C", 2);
+        graph.addEdge("C", "D", 3);
+        return graph;
+    }
+
+    @Test
+    public void testHitsAndInvalidation() {
+        CachingGraph<String> graph = CachingGraph.withMaxEntries(path(), 4);
+
+        Map<String, Pair<Integer, String>> first = graph.dijkstra("A");
+        assertSame(first, graph.dijkstra("A"));
+        assertEquals(1, graph.getHits());
+        assertEquals(1, graph.getMisses());
+        assertEquals(6, first.get("D").getFirst().intValue());
+        assertThrows(UnsupportedOperationException.class, () -> first.put("E", null));
+
+        graph.addEdge("A", "D", 2);
+        Map<String, Pair<Integer, String>> second = graph.dijkstra("A");
+        assertNotSame(first, second);
+        assertEquals(2, second.get("D").getFirst().intValue());
+
+        graph.addVertex("E");
+        assertEquals(Integer.MAX_VALUE, graph.dijkstra("A").get("E").getFirst().intValue());
+        assertEquals(3, graph.getMisses());
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        CachingGraph<String> graph = CachingGraph.withMaxEntries(path(), 2);
+        graph.dijkstra("A");
+        graph.dijkstra("B");
+        graph.dijkstra("A");
+        graph.dijkstra("C");
+
+        assertEquals(2, graph.getCachedTrees());
+        assertEquals(1, graph.getEvictions());
+        graph.dijkstra("A");
+        assertEquals(2, graph.getHits());
+        graph.dijkstra("B");
+        assertEquals(4, graph.getMisses());
+    }
+
+    @Test
+    public void testByteBound() {
+        CachingGraph<String> graph = CachingGraph.withMaxBytes(path(), 4 * CachingGraph.BYTES_PER_VERTEX);
+        graph.dijkstra("A");
+        assertEquals(1, graph.getCachedTrees());
+        graph.dijkstra("B");
+        assertEquals(1, graph.getCachedTrees());
+        assertEquals(4 * CachingGraph.BYTES_PER_VERTEX, graph.getCachedBytes());
+
+        graph.clear();
+        assertEquals(0, graph.getCachedTrees());
+        assertEquals(0, graph.getCachedBytes());
+    }
+
+    @Test
+    public void testAddingKnownVertexKeepsCache() {
+        CachingGraph<String> graph = CachingGraph.withMaxEntries(path(), 4);
+        Map<String, Pair<Integer, String>> tree = graph.dijkstra("A");
+
+        graph.addVertex("C");
+        assertSame(tree, graph.dijkstra("A"));
+        assertEquals(1, graph.getHits());
+
+        graph.addVertex("E");
+        assertNotSame(tree, graph.dijkstra("A"));
+    }
+
+    @Test
+    public void testConcurrentLookups() throws InterruptedException {
+        AdjacencyList<Integer> chain = new AdjacencyList<>();
+        for (int v = 0; v < 99; v++) {
+            chain.addEdge(v, v + 1, 1);
+        }
+        CachingGraph<Integer> graph = CachingGraph.withMaxEntries(chain, 8);
+        int calls = 2000;
+
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int seed = t;
+            threads.add(new Thread(() -> {
+                try {
+                    for (int i = 0; i < calls; i++) {
+                        int start = (i * 7 + seed) % 16;
+                        assertEquals(99 - start, graph.dijkstra(start).get(99).getFirst().intValue());
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(failures.isEmpty(), () -> failures.peek().toString());
+        assertEquals(4 * calls, graph.getHits() + graph.getMisses());
+        assertEquals(8, graph.getCachedTrees());
+        assertEquals(8 * 100 * CachingGraph.BYTES_PER_VERTEX, graph.getCachedBytes());
+    }
+}
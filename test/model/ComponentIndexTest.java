@@ -0,0 +1,45 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.Test;
+
+public class ComponentIndexTest {
+
+    @Test
+    public void testLabelsGridComponents() {
+        ComponentIndex components = ComponentIndex.of(new ImplicitGridGraph(new int[][] {
+                { 1, -1, 2 },
+                { 0, -1, 3 },
+                { -1, 4, -1 } }));
+
+        assertEquals(3, components.count());
+        assertTrue(components.connected(0, 3));
+        assertTrue(components.connected(2, 5));
+        assertFalse(components.connected(0, 2));
+        assertFalse(components.connected(7, 0));
+        assertFalse(components.connected(1, 1));
+        assertEquals(-1, components.component(1));
+        assertEquals(-1, components.component(42));
+    }
+
+    @Test
+    public void testLabelsInOrderOfLowestVertex() {
+        CsrGraph graph = new CsrGraph();
+        graph.addEdge(4, 1, 1);
+        graph.addEdge(1, 4, 1);
+        graph.addEdge(3, 0, 1);
+        graph.addEdge(0, 3, 1);
+        graph.addVertex(2);
+        ComponentIndex components = ComponentIndex.of(graph);
+
+        assertEquals(3, components.count());
+        assertEquals(0, components.component(0));
+        assertEquals(1, components.component(1));
+        assertEquals(2, components.component(2));
+        assertEquals(0, components.component(3));
+        assertEquals(1, components.component(4));
+    }
+}
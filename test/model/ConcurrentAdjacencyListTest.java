@@ -0,0 +1,113 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+public class ConcurrentAdjacencyListTest {
+
+    @Test
+    public void testMatchesAdjacencyList() {
+        ConcurrentAdjacencyList<String> graph = new ConcurrentAdjacencyList<>();
+        AdjacencyList<String> reference = new AdjacencyList<>();
+        for (IGraph<String> g : List.<IGraph<String>>of(graph, reference)) {
+            g.addEdge("A", "B", 4);
+            g.addEdge("A", "C", 1);
+            g.addEdge("C", "B", 2);
+            g.addEdge("B", "D", 5);
+            g.addEdge("A", "B", 9);
+            g.removeEdge("C", "B");
+            g.addEdge("C", "B", 1);
+        }
+
+        assertEquals(reference.dijkstra("A").get("D").getFirst(), graph.dijkstra("A").get("D").getFirst());
+        assertEquals(reference.bfs("A").size(), graph.bfs("A").size());
+        assertEquals(reference.kruskalMST().size(), graph.kruskalMST().size());
+
+        graph.removeVertex("B");
+        assertEquals(List.of("C"), graph.getNeighbors("A"));
+        assertEquals(List.of(), graph.getPredecessors("D"));
+    }
+
+    // Writers toggle the arcs of their own slice of a ring while readers run
+    // searches. At the end every writer restores its slice, so the ring must
+    // be whole and every arc must have its incoming mirror.
+    @Test
+    public void testConcurrentWritersAndReaders() throws InterruptedException {
+        int n = 400;
+        int writers = 4;
+        ConcurrentAdjacencyList<Integer> graph = new ConcurrentAdjacencyList<>();
+        for (int v = 0; v < n; v++) {
+            graph.addEdge(v, (v + 1) % n, 1);
+        }
+
+        AtomicBoolean done = new AtomicBoolean();
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        CountDownLatch writersDone = new CountDownLatch(writers);
+        List<Thread> threads = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            int slice = w;
+            threads.add(new Thread(() -> {
+                try {
+                    Random random = new Random(slice);
+                    for (int i = 0; i < 20000; i++) {
+                        int v = slice + writers * random.nextInt(n / writers);
+                        if (random.nextBoolean()) {
+                            graph.removeEdge(v, (v + 1) % n);
+                        } else {
+                            graph.addEdge(v, (v + 1) % n, 1);
+                        }
+                        if (i % 500 == 0) {
+                            graph.removeVertex(n + slice);
+                            graph.addEdge(v, n + slice, 1);
+                        }
+                    }
+                    for (int v = slice; v < n; v += writers) {
+                        graph.addEdge(v, (v + 1) % n, 1);
+                    }
+                    graph.removeVertex(n + slice);
+                } catch (Throwable e) {
+                    failures.add(e);
+                } finally {
+                    writersDone.countDown();
+                }
+            }));
+        }
+        for (int r = 0; r < 2; r++) {
+            threads.add(new Thread(() -> {
+                try {
+                    while (!done.get()) {
+                        Map<Integer, Pair<Integer, Integer>> tree = graph.dijkstra(0);
+                        assertEquals(0, tree.get(0).getFirst().intValue());
+                        assertTrue(graph.bfs(0).size() <= n + writers);
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        writersDone.await();
+        done.set(true);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(failures.isEmpty(), () -> failures.peek().toString());
+        assertEquals(n, graph.getVertices().size());
+        assertEquals(n - 1, graph.dijkstra(0).get(n - 1).getFirst().intValue());
+        for (int v = 0; v < n; v++) {
+            assertEquals(List.of((v + 1) % n), graph.getNeighbors(v));
+            assertEquals(List.of((v + n - 1) % n), graph.getPredecessors(v));
+        }
+    }
+}
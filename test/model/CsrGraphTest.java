@@ -0,0 +1,156 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class CsrGraphTest {
+
+    CsrGraph graph;
+
+    void initSetup() {
+        graph = new CsrGraph();
+    }
+
+    @Test
+    public void testDuplicateEdgesKeepFirstWeight() {
+        initSetup();
+        graph.addEdge(0, 1, 5);
+        graph.addEdge(0, 1, 10);
+        graph.addEdge(0, 2, 1);
+
+        assertEquals(2, graph.edgeCount());
+        assertEquals(List.of(1, 2), graph.getNeighbors(0));
+        assertEquals(5, graph.dijkstra(0).get(1).getFirst().intValue());
+    }
+
+    @Test
+    public void testMutateAfterRead() {
+        initSetup();
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        assertEquals(3, graph.bfs(0).size());
+
+        graph.addEdge(2, 7, 1);
+        graph.removeEdge(0, 1);
+        assertEquals(List.of(0), graph.bfs(0));
+        assertEquals(3, graph.bfs(1).size());
+
+        graph.removeVertex(2);
+        assertFalse(graph.containsVertex(2));
+        assertTrue(graph.getNeighbors(1).isEmpty());
+        assertEquals(3, graph.getVertices().size());
+    }
+
+    @Test
+    public void testRemoveEdgeRemovesBothDirections() {
+        initSetup();
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 0, 1);
+        graph.addEdge(1, 2, 1);
+        assertEquals(3, graph.edgeCount());
+
+        graph.removeEdge(1, 0);
+        assertEquals(1, graph.edgeCount());
+        assertTrue(graph.getNeighbors(0).isEmpty());
+        assertEquals(List.of(2), graph.getNeighbors(1));
+    }
+
+    @Test
+    public void testWeightBoundsFollowArcs() {
+        initSetup();
+        graph.addEdge(0, 1, 300);
+        graph.addEdge(1, 2, -2);
+        assertEquals(-2, graph.minWeight());
+        assertEquals(300, graph.maxWeight());
+        assertEquals(300, graph.reverse().maxWeight());
+        assertEquals(-2, FrozenGraph.copyOf(graph).minWeight());
+
+        graph.clear();
+        assertEquals(0, graph.minWeight());
+        assertEquals(0, graph.maxWeight());
+
+        ImplicitGridGraph grid = new ImplicitGridGraph(new int[][] { { 1, -1 }, { 7, 2 } });
+        assertEquals(0, grid.minWeight());
+        assertEquals(7, grid.maxWeight());
+        assertEquals(7, grid.reverse().maxWeight());
+    }
+
+    @Test
+    public void testPrimitiveDijkstra() {
+        initSetup();
+        graph.addEdge(0, 1, 10);
+        graph.addEdge(0, 2, 5);
+        graph.addEdge(2, 1, 2);
+        graph.addEdge(1, 3, 1);
+        graph.addVertex(4);
+
+        int[] previous = new int[graph.capacity()];
+        int[] distances = IntGraphSearch.dijkstra(graph, 0, previous);
+
+        assertEquals(7, distances[1]);
+        assertEquals(8, distances[3]);
+        assertEquals(Integer.MAX_VALUE, distances[4]);
+        assertEquals(2, previous[1]);
+        assertEquals(-1, previous[4]);
+
+        Map<Integer, Pair<Integer, Integer>> boxed = graph.dijkstra(0);
+        assertEquals(5, boxed.size());
+        assertEquals(1, boxed.get(3).getSecond().intValue());
+    }
+
+    @Test
+    public void testCopyOfImplicitGrid() {
+        ImplicitGridGraph grid = new ImplicitGridGraph(new int[][] {
+                { 1, 2, 4 },
+                { 3, -1, 2 },
+                { -1, 5, 1 } });
+        graph = CsrGraph.copyOf(grid);
+
+        assertEquals(grid.getVertices(), graph.getVertices());
+        assertEquals(List.of(3, 1), graph.getNeighbors(0));
+        assertEquals(List.of(5, 7), graph.getNeighbors(8));
+        assertTrue(graph.getNeighbors(6).isEmpty());
+        assertEquals(grid.dijkstra(0).get(8).getFirst(), graph.dijkstra(0).get(8).getFirst());
+        assertEquals(9, graph.dijkstra(0).get(8).getFirst().intValue());
+    }
+
+    @Test
+    public void testImplicitGridLeavesMatrixAlone() {
+        int[][] matrix = { { 1, 2 }, { 3, 4 } };
+        ImplicitGridGraph grid = new ImplicitGridGraph(matrix);
+
+        assertThrows(UnsupportedOperationException.class, () -> grid.removeVertex(0));
+        assertThrows(UnsupportedOperationException.class, grid::clear);
+        assertArrayEquals(new int[] { 1, 2 }, matrix[0]);
+        assertArrayEquals(new int[] { 3, 4 }, matrix[1]);
+    }
+
+    @Test
+    public void testPointToPointSearchesMatchDijkstra() {
+        int[][] matrix = {
+                { 2, 2, 4, 2, 9 },
+                { 3, -1, 2, 1, 3 },
+                { -1, 5, 3, -1, 2 },
+                { 2, 1, 1, 4, 8 } };
+        ImplicitGridGraph grid = new ImplicitGridGraph(matrix);
+        ManhattanHeuristic heuristic = ManhattanHeuristic.forMatrix(matrix);
+
+        for (int target : grid.getVertices()) {
+            int[] previous = new int[grid.capacity()];
+            int expected = IntGraphSearch.dijkstra(grid, 0, previous)[target];
+            assertEquals(expected, IntGraphSearch.aStar(grid, 0, target, previous, heuristic)[target]);
+            assertEquals(expected, grid.shortestPath(0, target, heuristic).get(target).getFirst().intValue());
+            assertEquals(expected, grid.bidirectionalDijkstra(0, target).get(target).getFirst().intValue());
+            assertEquals(expected, CsrGraph.copyOf(grid).bidirectionalDijkstra(0, target).get(target).getFirst()
+                    .intValue());
+        }
+    }
+}
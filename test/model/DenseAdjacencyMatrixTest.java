@@ -0,0 +1,152 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class DenseAdjacencyMatrixTest {
+
+    void addRandomEdges(IGraph<Integer> graph, int n, int edges, long seed) {
+        Random random = new Random(seed);
+        for (int v = 0; v < n; v++) {
+            graph.addVertex(v);
+        }
+        for (int e = 0; e < edges; e++) {
+            graph.addEdge(random.nextInt(n), random.nextInt(n), random.nextInt(10));
+        }
+    }
+
+    Map<Integer, Integer> distances(Map<Integer, Pair<Integer, Integer>> tree) {
+        Map<Integer, Integer> distances = new HashMap<>();
+        tree.forEach((vertex, label) -> distances.put(vertex, label.getFirst()));
+        return distances;
+    }
+
+    int totalWeight(List<Edge<Integer>> edges) {
+        int total = 0;
+        for (Edge<Integer> edge : edges) {
+            total += edge.getWeight();
+        }
+        return total;
+    }
+
+    @Test
+    public void testMatchesAdjacencyMatrix() {
+        for (int n : new int[] { 10, 150 }) {
+            AdjacencyMatrix<Integer> expected = new AdjacencyMatrix<>();
+            DenseAdjacencyMatrix<Integer> dense = new DenseAdjacencyMatrix<>();
+            addRandomEdges(expected, n, n * n / 3, n);
+            addRandomEdges(dense, n, n * n / 3, n);
+
+            assertEquals(n, dense.getVertices().size());
+            for (int v = 0; v < n; v += 7) {
+                assertEquals(distances(expected.dijkstra(v)), distances(dense.dijkstra(v)));
+                assertEquals(expected.bfs(v).size(), dense.bfs(v).size());
+                assertEquals(expected.getNeighbors(v).size(), dense.getNeighbors(v).size());
+            }
+            assertEquals(Map.copyOf(expected.floydWarshall().get(1)), Map.copyOf(dense.floydWarshall().get(1)));
+            assertEquals(totalWeight(expected.kruskalMST()), totalWeight(dense.kruskalMST()));
+            int bidirectional = dense.bidirectionalDijkstra(0, n - 1).get(n - 1).getFirst();
+            assertEquals(expected.dijkstra(0).get(n - 1).getFirst().intValue(), bidirectional);
+        }
+    }
+
+    @Test
+    public void testWeightsAndReverse() {
+        DenseAdjacencyMatrix<String> graph = new DenseAdjacencyMatrix<>();
+        graph.addEdge("A", "B", 3);
+        graph.addEdge("A", "B", 8);
+        graph.addEdge("C", "B", -2);
+
+        assertEquals(3, graph.getWeight("A", "B"));
+        assertEquals(-2, graph.getWeight("C", "B"));
+        assertEquals(DenseAdjacencyMatrix.NO_EDGE, graph.getWeight("B", "A"));
+        assertEquals(DenseAdjacencyMatrix.NO_EDGE, graph.getWeight("A", "Z"));
+
+        int b = graph.indexOf("B");
+        IntGraph reverse = graph.reverse();
+        int count = 0;
+        for (int e = reverse.firstEdge(b); e >= 0; e = reverse.nextEdge(b, e)) {
+            assertTrue(reverse.target(b, e) == graph.indexOf("A") || reverse.target(b, e) == graph.indexOf("C"));
+            count++;
+        }
+        assertEquals(2, count);
+        assertEquals(graph, reverse.reverse());
+    }
+
+    @Test
+    public void testRemovedVertexIdIsReused() {
+        DenseAdjacencyMatrix<String> graph = new DenseAdjacencyMatrix<>();
+        graph.addEdge("A", "B", 1);
+        graph.addEdge("B", "C", 2);
+        graph.addEdge("C", "B", 4);
+        int b = graph.indexOf("B");
+
+        graph.removeVertex("B");
+        assertEquals(-1, graph.indexOf("B"));
+        assertEquals(List.of(), graph.getNeighbors("A"));
+        assertEquals(List.of(), graph.getNeighbors("C"));
+
+        graph.addVertex("D");
+        assertEquals(b, graph.indexOf("D"));
+        assertEquals(List.of(), graph.getNeighbors("D"));
+        assertEquals(DenseAdjacencyMatrix.NO_EDGE, graph.getWeight("A", "D"));
+        assertEquals(3, graph.getVertices().size());
+        assertEquals(3, graph.primMST().size());
+    }
+
+    @Test
+    public void testSearchesAgreeAfterRemovals() {
+        int n = 60;
+        List<IGraph<Integer>> graphs = List.of(new AdjacencyList<>(), new AdjacencyMatrix<>(),
+                new DenseAdjacencyMatrix<>());
+        for (IGraph<Integer> graph : graphs) {
+            addRandomEdges(graph, n, n * 4, 7);
+            Random random = new Random(11);
+            // AdjacencyList drops both arcs of a pair, the matrices only one.
+            for (int i = 0; i < n; i++) {
+                int s = random.nextInt(n);
+                int t = random.nextInt(n);
+                graph.removeEdge(s, t);
+                graph.removeEdge(t, s);
+            }
+            for (int v = 0; v < n; v += 9) {
+                graph.removeVertex(v);
+            }
+            graph.addEdge(0, 1, 3);
+        }
+
+        IGraph<Integer> expected = graphs.get(2);
+        for (IGraph<Integer> graph : graphs) {
+            for (int v = 1; v < n; v += 5) {
+                Map<Integer, Integer> tree = distances(expected.dijkstra(v));
+                assertEquals(tree, distances(graph.dijkstra(v)));
+                int target = (v * 7) % n;
+                Integer cost = tree.get(target);
+                Map<Integer, Pair<Integer, Integer>> path = graph.bidirectionalDijkstra(v, target);
+                Map<Integer, Pair<Integer, Integer>> aStar = graph.shortestPath(v, target, (a, b) -> 0);
+                if (cost == null || cost == Integer.MAX_VALUE) {
+                    assertTrue(path.isEmpty());
+                } else {
+                    assertEquals(cost, path.get(target).getFirst());
+                    assertEquals(cost, aStar.get(target).getFirst());
+                }
+            }
+            assertEquals(totalWeight(expected.kruskalMST()), totalWeight(graph.kruskalMST()));
+            assertEquals(expected.primMST().keySet(), graph.primMST().keySet());
+        }
+    }
+
+    @Test
+    public void testRejectsCapacityBeyondIntIndex() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new DenseAdjacencyMatrix<Integer>(DenseAdjacencyMatrix.MAX_VERTICES + 1));
+    }
+}
@@ -0,0 +1,90 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+public class FilterKruskalTest {
+
+    // Plain Kruskal over a full sort on (weight, index).
+    int[] reference(int n, int[] sources, int[] targets, int[] weights, int m) {
+        long[] keys = new long[m];
+        for (int i = 0; i < m; i++) {
+            keys[i] = ((long) weights[i] << 32) | i;
+        }
+        Arrays.sort(keys);
+        int[] parent = new int[n];
+        for (int v = 0; v < n; v++) {
+            parent[v] = v;
+        }
+        int[] chosen = new int[m];
+        int count = 0;
+        for (long key : keys) {
+            int e = (int) key;
+            int a = sources[e];
+            int b = targets[e];
+            while (parent[a] != a) {
+                a = parent[a];
+            }
+            while (parent[b] != b) {
+                b = parent[b];
+            }
+            if (a != b) {
+                parent[b] = a;
+                chosen[count++] = e;
+            }
+        }
+        return Arrays.copyOf(chosen, count);
+    }
+
+    @Test
+    public void testMatchesSortedKruskal() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        for (int n : new int[] { 1, 50, 3000, 20000 }) {
+            Random random = new Random(n);
+            int m = n * 6;
+            int[] sources = new int[m];
+            int[] targets = new int[m];
+            int[] weights = new int[m];
+            for (int i = 0; i < m; i++) {
+                sources[i] = random.nextInt(n);
+                targets[i] = random.nextInt(n);
+                weights[i] = random.nextInt(20) - 5;
+            }
+            int[] expected = reference(n, sources, targets, weights, m);
+            assertArrayEquals(expected, FilterKruskal.run(n, sources, targets, weights, m, pool));
+            assertArrayEquals(expected, FilterKruskal.run(n, sources, targets, weights, m));
+        }
+        pool.shutdown();
+    }
+
+    @Test
+    public void testGridSpanningTree() {
+        int side = 300;
+        int n = side * side;
+        int[] sources = new int[4 * n];
+        int[] targets = new int[4 * n];
+        int[] weights = new int[4 * n];
+        Random random = new Random(7);
+        int m = 0;
+        for (int v = 0; v < n; v++) {
+            int[] neighbors = { v - side, v + side, v % side > 0 ? v - 1 : -1, v % side < side - 1 ? v + 1 : -1 };
+            for (int w : neighbors) {
+                if (w >= 0 && w < n) {
+                    sources[m] = v;
+                    targets[m] = w;
+                    weights[m] = random.nextInt(10);
+                    m++;
+                }
+            }
+        }
+        int[] chosen = FilterKruskal.run(n, sources, targets, weights, m);
+        assertEquals(n - 1, chosen.length);
+        assertArrayEquals(reference(n, sources, targets, weights, m), chosen);
+    }
+}
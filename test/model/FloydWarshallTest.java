@@ -0,0 +1,79 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+public class FloydWarshallTest {
+
+    int[] randomGraph(int n, long seed) {
+        Random random = new Random(seed);
+        int[] distances = FloydWarshall.initialDistances(n);
+        for (int e = 0; e < n * 3; e++) {
+            FloydWarshall.addEdge(distances, n, random.nextInt(n), random.nextInt(n), random.nextInt(20));
+        }
+        return distances;
+    }
+
+    int[] naive(int[] distances, int n) {
+        int[] result = distances.clone();
+        for (int k = 0; k < n; k++) {
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    int ik = result[i * n + k];
+                    int kj = result[k * n + j];
+                    if (ik != Integer.MAX_VALUE && kj != Integer.MAX_VALUE && ik + kj < result[i * n + j]) {
+                        result[i * n + j] = ik + kj;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    @Test
+    public void testBlockedMatchesNaive() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        for (int n : new int[] { 1, 63, 65, 300 }) {
+            int[] distances = randomGraph(n, n);
+            int[] expected = naive(distances, n);
+            int[] sequential = distances.clone();
+            FloydWarshall.run(sequential, n, new ForkJoinPool(1));
+            FloydWarshall.run(distances, n, pool);
+            assertArrayEquals(expected, sequential);
+            assertArrayEquals(expected, distances);
+        }
+        pool.shutdown();
+    }
+
+    @Test
+    public void testDistanceTableView() {
+        VertexIndex<String> index = new VertexIndex<>(Arrays.asList("A", "B"));
+        int[] distances = FloydWarshall.initialDistances(2);
+        FloydWarshall.addEdge(distances, 2, 0, 1, 7);
+        Map<String, Map<String, Integer>> table = new DistanceTable<>(index, distances);
+
+        assertEquals(2, table.size());
+        assertEquals(7, table.get("A").get("B").intValue());
+        assertEquals(Integer.MAX_VALUE, table.get("B").get("A").intValue());
+        assertNull(table.get("C"));
+        assertEquals(Map.of("A", 0, "B", 7), Map.copyOf(table.get("A")));
+    }
+
+    @Test
+    public void testAdjacencyMatrixIsNotModified() {
+        AdjacencyMatrix<String> graph = new AdjacencyMatrix<>();
+        graph.addEdge("A", "B", 1);
+        graph.addEdge("B", "C", 2);
+
+        assertEquals(3, graph.floydWarshall().get("A").get("C").intValue());
+        assertEquals(1, graph.getNeighbors("A").size());
+    }
+}
@@ -0,0 +1,92 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class FrozenGraphTest {
+
+    AdjacencyList<Integer> randomGraph(int n, long seed) {
+        Random random = new Random(seed);
+        AdjacencyList<Integer> graph = new AdjacencyList<>();
+        for (int v = 0; v < n; v++) {
+            graph.addVertex(v);
+        }
+        for (int e = 0; e < n * 3; e++) {
+            graph.addEdge(random.nextInt(n), random.nextInt(n), random.nextInt(10));
+        }
+        return graph;
+    }
+
+    Map<Integer, Integer> distances(Map<Integer, Pair<Integer, Integer>> tree) {
+        Map<Integer, Integer> distances = new HashMap<>();
+        tree.forEach((vertex, label) -> distances.put(vertex, label.getFirst()));
+        return distances;
+    }
+
+    @Test
+    public void testMatchesSourceGraph() {
+        for (long seed = 0; seed < 5; seed++) {
+            AdjacencyList<Integer> graph = randomGraph(60, seed);
+            FrozenGraph<Integer> frozen = graph.freeze();
+
+            assertEquals(graph.getVertices().size(), frozen.vertexCount());
+            for (Integer v : graph.getVertices()) {
+                assertEquals(distances(graph.dijkstra(v)), distances(frozen.dijkstra(v)));
+                assertEquals(graph.bfs(v).size(), frozen.bfs(v).size());
+            }
+            assertEquals(Map.copyOf(graph.floydWarshall().get(0)), Map.copyOf(frozen.floydWarshall().get(0)));
+            int bidirectional = frozen.bidirectionalDijkstra(0, 59).getOrDefault(59, new Pair<>(-1, null)).getFirst();
+            int expected = graph.dijkstra(0).get(59).getFirst();
+            assertEquals(expected == Integer.MAX_VALUE ? -1 : expected, bidirectional);
+        }
+    }
+
+    @Test
+    public void testSortedAdjacencyAndReverse() {
+        AdjacencyMatrix<String> graph = new AdjacencyMatrix<>();
+        graph.addEdge("A", "D", 4);
+        graph.addEdge("A", "B", 1);
+        graph.addEdge("C", "B", 2);
+        graph.addVertex("E");
+
+        FrozenGraph<String> frozen = graph.freeze();
+        FrozenGraph<String> reverse = frozen.reverse();
+
+        int a = frozen.indexOf("A");
+        assertEquals(frozen.indexOf("D") < frozen.indexOf("B") ? List.of("D", "B") : List.of("B", "D"),
+                frozen.getNeighbors("A"));
+        assertEquals(3, frozen.edgeCount());
+        assertEquals(List.of("A", "C"), reverse.getNeighbors("B"));
+        assertEquals(frozen, reverse.reverse());
+        assertEquals(List.of(), frozen.getNeighbors("E"));
+        assertEquals("A", frozen.vertex(a));
+    }
+
+    @Test
+    public void testRejectsMutation() {
+        FrozenGraph<Integer> frozen = randomGraph(5, 1).freeze();
+        assertThrows(UnsupportedOperationException.class, () -> frozen.addVertex(9));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.addEdge(0, 1, 1));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.removeVertex(0));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.removeEdge(0, 1));
+        assertThrows(UnsupportedOperationException.class, frozen::clear);
+        assertEquals(frozen, frozen.freeze());
+    }
+
+    @Test
+    public void testFreezesGridGraph() {
+        int[][] matrix = { { 1, 2, -1 }, { 3, 0, 5 } };
+        FrozenGraph<Integer> frozen = new ImplicitGridGraph(matrix).freeze();
+
+        assertEquals(5, frozen.vertexCount());
+        assertEquals(List.of(1, 3), frozen.getNeighbors(0));
+        assertEquals(7, frozen.dijkstra(0).get(5).getFirst().intValue());
+    }
+}
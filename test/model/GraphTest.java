@@ -7,8 +7,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 import org.junit.Test;
 
@@ -140,6 +143,24 @@ public class GraphTest {
         assertTrue(bfs.contains("D"));
     }
 
+    @Test
+    public void testVisitorStopsEarly() {
+        initSetup();
+
+        graph.addEdge("A", "B", 1);
+        graph.addEdge("B", "C", 1);
+        graph.addEdge("C", "D", 1);
+
+        List<String> visited = new ArrayList<>();
+        assertTrue(graph.bfs("A", vertex -> visited.add(vertex) && !vertex.equals("B")));
+        assertEquals(List.of("A", "B"), visited);
+
+        visited.clear();
+        assertFalse(graph.dfs("A", visited::add));
+        assertEquals(List.of("A", "B", "C", "D"), visited);
+        assertFalse(graph.dfs("Z", visited::add));
+    }
+
     @Test
     public void testDijkstra() {
         initSetup();
@@ -161,6 +182,57 @@ public class GraphTest {
         assertEquals(9, distances.get("D").getFirst().intValue());
     }
 
+    @Test
+    public void testShortestPath() {
+        initSetup();
+
+        graph.addEdge("A", "B", 10);
+        graph.addEdge("A", "C", 5);
+        graph.addEdge("B", "C", 2);
+        graph.addEdge("C", "B", 3);
+        graph.addEdge("B", "D", 1);
+        graph.addVertex("E");
+
+        Map<String, Pair<Integer, String>> path = graph.shortestPath("A", "D", (vertex, target) -> 0);
+
+        assertEquals(9, path.get("D").getFirst().intValue());
+        assertEquals("B", path.get("D").getSecond());
+        assertEquals("C", path.get("B").getSecond());
+        assertEquals("A", path.get("C").getSecond());
+        assertFalse(path.containsKey("E"));
+        assertFalse(graph.shortestPath("D", "A", (vertex, target) -> 0).containsKey("A"));
+    }
+
+    @Test
+    public void testBidirectionalDijkstra() {
+        initSetup();
+
+        graph.addEdge("A", "B", 10);
+        graph.addEdge("A", "C", 5);
+        graph.addEdge("C", "B", 3);
+        graph.addEdge("B", "D", 1);
+        graph.addEdge("C", "E", 1);
+        graph.addEdge("E", "D", 7);
+
+        Map<String, Pair<Integer, String>> path = graph.bidirectionalDijkstra("A", "D");
+
+        assertEquals(4, path.size());
+        assertEquals(9, path.get("D").getFirst().intValue());
+        assertEquals("B", path.get("D").getSecond());
+        assertEquals(8, path.get("B").getFirst().intValue());
+        assertEquals("C", path.get("B").getSecond());
+        assertEquals("A", path.get("C").getSecond());
+        assertNull(path.get("A").getSecond());
+
+        graph.removeEdge("C", "B");
+        path = graph.bidirectionalDijkstra("A", "D");
+        assertEquals(11, path.get("D").getFirst().intValue());
+
+        graph.removeVertex("B");
+        graph.removeVertex("E");
+        assertTrue(graph.bidirectionalDijkstra("A", "D").isEmpty());
+    }
+
     @Test
     public void testEmptyGraph() {
         initSetup();
@@ -319,6 +391,30 @@ public class GraphTest {
         assertEquals(0, neighbors998.size());
     }
 
+    @Test
+    public void testRemoveVertexWithIncomingArcs() {
+        for (IGraph<String> graph : List.<IGraph<String>>of(new AdjacencyList<>(), new AdjacencyMatrix<>())) {
+            for (int i = 0; i < 50; i++) {
+                graph.addEdge("v" + i, "hub", 1);
+            }
+            graph.addEdge("hub", "hub", 0);
+            graph.addEdge("hub", "v0", 2);
+
+            graph.removeVertex("hub");
+            graph.addVertex("hub");
+
+            for (int i = 0; i < 50; i++) {
+                assertEquals(0, graph.getNeighbors("v" + i).size());
+            }
+            assertEquals(0, graph.getNeighbors("hub").size());
+            assertEquals(1, graph.bfs("v0").size());
+            // The backward half of the search walks incoming arcs, so a stale
+            // arc left behind by the old hub would show up as a path here.
+            assertTrue(graph.bidirectionalDijkstra("hub", "v0").isEmpty());
+            assertTrue(graph.bidirectionalDijkstra("v1", "hub").isEmpty());
+        }
+    }
+
     @Test
     public void testDuplicateEdges() {
         initSetup();
@@ -335,6 +431,28 @@ public class GraphTest {
         assertTrue(neighborsA.contains("B"));
     }
 
+    @Test
+    public void testAdjacencyListKeepsNeighborOrderAfterRemovals() {
+        // Sizes below and above the point where Node starts indexing its arcs.
+        for (int n : new int[] { 5, 40 }) {
+            IGraph<String> graph = new AdjacencyList<>();
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                graph.addEdge("A", "v" + i, i);
+                expected.add("v" + i);
+            }
+
+            graph.removeEdge("A", "v1");
+            graph.removeVertex("v3");
+            expected.remove("v1");
+            expected.remove("v3");
+            graph.addEdge("A", "v1", 1);
+            expected.add("v1");
+
+            assertEquals(expected, graph.getNeighbors("A"));
+        }
+    }
+
     @Test
     public void testDirectedCyclicGraph() {
         initSetup();
@@ -485,6 +603,43 @@ public class GraphTest {
         assertEquals("1", mst.get("3"));
     }
 
+    @Test
+    public void testPrimMSTMatchesDenseMatrix() {
+        initSetup();
+        DenseAdjacencyMatrix<String> dense = new DenseAdjacencyMatrix<>();
+        Map<String, Integer> weights = new HashMap<>();
+        Random random = new Random(5);
+        for (int v = 0; v < 300; v++) {
+            graph.addVertex("v" + v);
+            dense.addVertex("v" + v);
+        }
+        for (int e = 0; e < 1500; e++) {
+            String u = "v" + random.nextInt(300);
+            String v = "v" + random.nextInt(300);
+            int weight = random.nextInt(100);
+            if (!weights.containsKey(u + "-" + v)) {
+                weights.put(u + "-" + v, weight);
+                weights.put(v + "-" + u, weight);
+                for (IGraph<String> g : List.of(graph, dense)) {
+                    g.addEdge(u, v, weight);
+                    g.addEdge(v, u, weight);
+                }
+            }
+        }
+
+        int[] totals = new int[2];
+        int i = 0;
+        for (IGraph<String> g : List.of(graph, dense)) {
+            for (Map.Entry<String, String> entry : g.primMST().entrySet()) {
+                if (entry.getValue() != null) {
+                    totals[i] += weights.get(entry.getValue() + "-" + entry.getKey());
+                }
+            }
+            i++;
+        }
+        assertEquals(totals[1], totals[0]);
+    }
+
     @Test
     public void testKruskalMST() {
         initSetup();
@@ -513,4 +668,33 @@ public class GraphTest {
         }
         assertEquals(21, totalWeight);
     }
+
+    @Test
+    public void testBoruvkaMST() {
+        initSetup();
+
+        graph.addVertex("A");
+        graph.addVertex("B");
+        graph.addVertex("C");
+        graph.addVertex("D");
+        graph.addVertex("E");
+
+        graph.addEdge("A", "B", 10);
+        graph.addEdge("A", "C", 6);
+        graph.addEdge("A", "D", 5);
+        graph.addEdge("B", "D", 15);
+        graph.addEdge("C", "D", 4);
+        graph.addEdge("C", "E", 2);
+        graph.addEdge("D", "E", 8);
+
+        List<Edge<String>> mst = graph.boruvkaMST();
+
+        assertEquals(4, mst.size());
+
+        int totalWeight = 0;
+        for (Edge<String> edge : mst) {
+            totalWeight += edge.getWeight();
+        }
+        assertEquals(21, totalWeight);
+    }
 }
@@ -0,0 +1,54 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class IndexedMinHeapTest {
+
+    @Test
+    public void testDecreaseKeyReordersHeap() {
+        IndexedMinHeap heap = new IndexedMinHeap(4, 2);
+        heap.insert(0, 10);
+        heap.insert(1, 20);
+        heap.insert(2, 30);
+
+        heap.decreaseKey(2, 5);
+
+        assertTrue(heap.contains(2));
+        assertEquals(2, heap.poll());
+        assertFalse(heap.contains(2));
+        assertEquals(0, heap.poll());
+        assertEquals(1, heap.poll());
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    public void testPollsInPriorityOrderForEveryArity() {
+        Random random = new Random(42);
+        for (int arity = 2; arity <= 8; arity++) {
+            int n = 500;
+            int[] priorities = new int[n];
+            IndexedMinHeap heap = new IndexedMinHeap(n, arity);
+            for (int i = 0; i < n; i++) {
+                priorities[i] = random.nextInt(1000);
+                heap.insert(i, priorities[i]);
+            }
+            for (int i = 0; i < n; i += 3) {
+                priorities[i] -= random.nextInt(100);
+                heap.decreaseKey(i, priorities[i]);
+            }
+
+            int[] expected = priorities.clone();
+            Arrays.sort(expected);
+            for (int i = 0; i < n; i++) {
+                assertEquals(expected[i], priorities[heap.poll()]);
+            }
+        }
+    }
+}
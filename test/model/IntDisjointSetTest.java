@@ -0,0 +1,57 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.Test;
+
+public class IntDisjointSetTest {
+
+    @Test
+    public void testUnionAndCount() {
+        IntDisjointSet sets = new IntDisjointSet(5);
+        assertEquals(5, sets.count());
+        assertTrue(sets.union(0, 1));
+        assertTrue(sets.union(3, 4));
+        assertFalse(sets.union(1, 0));
+        assertEquals(3, sets.count());
+        assertTrue(sets.connected(0, 1));
+        assertFalse(sets.connected(1, 3));
+        assertEquals(2, sets.sizeOf(4));
+
+        assertEquals(5, sets.makeSets(40));
+        assertEquals(45, sets.size());
+        assertEquals(43, sets.count());
+        assertTrue(sets.union(44, 0));
+        assertEquals(3, sets.sizeOf(1));
+    }
+
+    @Test
+    public void testLongChain() {
+        int n = 1_000_000;
+        IntDisjointSet sets = new IntDisjointSet();
+        sets.makeSets(n);
+        for (int x = 1; x < n; x++) {
+            sets.union(x, x - 1);
+        }
+        assertEquals(1, sets.count());
+        assertEquals(n, sets.sizeOf(0));
+        assertTrue(sets.connected(0, n - 1));
+    }
+
+    @Test
+    public void testComponentLabels() {
+        IntDisjointSet sets = new IntDisjointSet(6);
+        sets.union(5, 2);
+        sets.union(1, 4);
+        ComponentIndex components = ComponentIndex.of(sets);
+
+        assertEquals(4, components.count());
+        assertEquals(0, components.component(0));
+        assertEquals(1, components.component(4));
+        assertEquals(2, components.component(5));
+        assertTrue(components.connected(2, 5));
+        assertFalse(components.connected(0, 3));
+    }
+}
@@ -0,0 +1,72 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class IntPriorityQueueTest {
+
+    // Replays the same monotone workload Dijkstra produces on a queue and on
+    // the reference heap and checks that both poll the same priorities.
+    void checkMonotoneWorkload(IntPriorityQueue queue, int maxWeight, long seed) {
+        Random random = new Random(seed);
+        int n = 2000;
+        IndexedMinHeap reference = new IndexedMinHeap(n);
+        boolean[] done = new boolean[n];
+        int last = 0;
+        int next = 1;
+        queue.insert(0, 0);
+        reference.insert(0, 0);
+
+        while (!reference.isEmpty()) {
+            int expected = reference.poll();
+            int actual = queue.poll();
+            assertEquals(reference.priority(expected), queue.priority(actual));
+            last = queue.priority(actual);
+            done[actual] = true;
+
+            for (int k = 0; k < 3; k++) {
+                int priority = last + random.nextInt(maxWeight + 1);
+                int candidate = random.nextInt(n);
+                if (next < n && random.nextBoolean()) {
+                    candidate = next++;
+                }
+                if (done[candidate]) {
+                    continue;
+                }
+                if (!queue.contains(candidate)) {
+                    queue.insert(candidate, priority);
+                    reference.insert(candidate, priority);
+                } else if (priority < queue.priority(candidate)) {
+                    queue.decreaseKey(candidate, priority);
+                    reference.decreaseKey(candidate, priority);
+                }
+            }
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testBucketQueue() {
+        for (int maxWeight : new int[] { 0, 1, 9, 128 }) {
+            checkMonotoneWorkload(new BucketQueue(2000, maxWeight), maxWeight, maxWeight);
+        }
+    }
+
+    @Test
+    public void testRadixHeap() {
+        for (int maxWeight : new int[] { 0, 1, 9, 1000, 1 << 20 }) {
+            checkMonotoneWorkload(new RadixHeap(2000), maxWeight, maxWeight);
+        }
+    }
+
+    @Test
+    public void testQueueChoice() {
+        assertTrue(IntPriorityQueue.forWeights(10, -5, 3, 4) instanceof IndexedMinHeap);
+        assertTrue(IntPriorityQueue.forWeights(10, 0, 9, 4) instanceof BucketQueue);
+        assertTrue(IntPriorityQueue.forWeights(10, 1, 100000, 4) instanceof RadixHeap);
+    }
+}
@@ -0,0 +1,66 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class IntTraversalTest {
+
+    CsrGraph randomGraph(int n, long seed) {
+        Random random = new Random(seed);
+        CsrGraph graph = new CsrGraph();
+        for (int v = 0; v < n; v++) {
+            graph.addVertex(v);
+        }
+        for (int e = 0; e < n * 2; e++) {
+            graph.addEdge(random.nextInt(n), random.nextInt(n), 1);
+        }
+        return graph;
+    }
+
+    @Test
+    public void testMatchesIntGraphSearchOrder() {
+        IntTraversal traversal = new IntTraversal();
+        for (int n : new int[] { 1, 10, 200 }) {
+            CsrGraph graph = randomGraph(n, n);
+            for (int start = 0; start < n; start += 7) {
+                int[] expected = new int[n];
+                int count = IntGraphSearch.bfs(graph, start, expected);
+                int[] actual = new int[n];
+                int[] size = new int[1];
+                assertFalse(traversal.bfs(graph, start, v -> {
+                    actual[size[0]++] = v;
+                    return true;
+                }));
+                assertArrayEquals(Arrays.copyOf(expected, count), Arrays.copyOf(actual, size[0]));
+
+                count = IntGraphSearch.dfs(graph, start, expected);
+                size[0] = 0;
+                assertFalse(traversal.dfs(graph, start, v -> {
+                    actual[size[0]++] = v;
+                    return true;
+                }));
+                assertArrayEquals(Arrays.copyOf(expected, count), Arrays.copyOf(actual, size[0]));
+            }
+        }
+    }
+
+    @Test
+    public void testStopsAtTarget() {
+        ImplicitGridGraph grid = new ImplicitGridGraph(new int[3][3]);
+        int[] visits = new int[1];
+
+        assertTrue(new IntTraversal().bfs(grid, 0, v -> {
+            visits[0]++;
+            return v != 4;
+        }));
+        assertEquals(5, visits[0]);
+        assertFalse(new IntTraversal().bfs(grid, 9, v -> true));
+    }
+}
@@ -0,0 +1,61 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class VertexInternerTest {
+
+    @Test
+    public void testIdsAreReusedAfterRemoval() {
+        VertexInterner<String> ids = new VertexInterner<>();
+        assertEquals(0, ids.intern("A"));
+        assertEquals(1, ids.intern("B"));
+        assertEquals(2, ids.intern("C"));
+        assertEquals(1, ids.intern("B"));
+
+        assertEquals(1, ids.remove("B"));
+        assertEquals(-1, ids.remove("B"));
+        assertFalse(ids.contains(1));
+        assertNull(ids.value(1));
+        assertEquals(0, ids.first());
+        assertEquals(2, ids.next(0));
+        assertEquals(2, ids.size());
+
+        assertEquals(1, ids.intern("D"));
+        assertEquals(3, ids.capacity());
+        assertTrue(ids.contains(1));
+        assertEquals("D", ids.value(1));
+
+        ids.clear();
+        assertEquals(-1, ids.first());
+        assertEquals(0, ids.intern("E"));
+    }
+
+    @Test
+    public void testGraphsSearchAfterIdReuse() {
+        for (IGraph<String> graph : List.<IGraph<String>>of(new AdjacencyList<>(), new AdjacencyMatrix<>())) {
+            graph.addEdge("A", "B", 1);
+            graph.addEdge("B", "C", 1);
+            graph.addEdge("A", "C", 5);
+            graph.removeVertex("B");
+            graph.addEdge("A", "D", 1);
+            graph.addEdge("D", "C", 1);
+
+            Map<String, Pair<Integer, String>> tree = graph.dijkstra("A");
+            assertEquals(3, tree.size());
+            assertEquals(2, tree.get("C").getFirst().intValue());
+            assertEquals("D", tree.get("C").getSecond());
+            assertEquals(2, graph.shortestPath("A", "C", (u, v) -> 0).get("C").getFirst().intValue());
+            assertEquals(2, graph.bidirectionalDijkstra("A", "C").get("C").getFirst().intValue());
+            assertEquals(3, graph.bfs("A").size());
+            assertEquals(2, graph.floydWarshall().get("A").get("C").intValue());
+        }
+    }
+}
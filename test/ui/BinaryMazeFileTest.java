@@ -0,0 +1,113 @@
+package ui;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Test;
+
+import model.CellGrid;
+
+public class BinaryMazeFileTest {
+
+    int[][] matrix = {
+            { 1, 2, 4, 2 },
+            { 3, -1, 2, 1 },
+            { -1, -1, 3, 8 },
+            { 2, -1, 1, 0 } };
+    Integer[][] entrances = { { 1, 0 }, { 0, 3 }, { 3, 0 } };
+
+    void checkRoundTrip(int[][] matrix) throws Exception {
+        Path file = Files.createTempFile("maze", ".bin");
+        try {
+            BinaryMazeFile.write(new Maze(matrix, entrances, 3, 2), file);
+            assertTrue(BinaryMazeFile.isBinary(file));
+
+            Maze maze = BinaryMazeFile.open(file);
+            assertEquals(matrix.length, maze.getNumRows());
+            assertEquals(matrix[0].length, maze.getNumCols());
+            assertArrayEquals(entrances, maze.getEntrances());
+            assertEquals(3, maze.getEndRow());
+            assertEquals(2, maze.getEndCol());
+            CellGrid cells = maze.getCells();
+            for (int i = 0; i < matrix.length; i++) {
+                for (int j = 0; j < matrix[0].length; j++) {
+                    assertEquals(matrix[i][j], cells.get(i * matrix[0].length + j));
+                }
+            }
+
+            Menu menu = new Menu();
+            menu.setMaze(maze);
+            assertEquals("(0,3) -> (1,3) -> (1,2) -> (2,2) -> (3,2)", menu.solve().get(1));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testRoundTripForEveryWidth() throws Exception {
+        checkRoundTrip(matrix);
+        matrix[0][0] = 30000;
+        checkRoundTrip(matrix);
+        matrix[0][0] = 1 << 20;
+        checkRoundTrip(matrix);
+    }
+
+    @Test
+    public void testConvertsTextMaze() throws Exception {
+        Path text = Files.createTempFile("maze", ".txt");
+        Path binary = Files.createTempFile("maze", ".bin");
+        try {
+            Files.writeString(text, "2 2\n0 5\n-1 7\n1\n0 0\n1 1\n");
+            assertFalse(BinaryMazeFile.isBinary(text));
+
+            BinaryMazeFile.convert(text, binary);
+            Maze maze = BinaryMazeFile.open(binary);
+            assertEquals(7, maze.getCells().get(3));
+            assertEquals(-1, maze.getCells().get(2));
+            assertEquals(1, maze.getEndCol());
+            assertEquals(28 + 8 + 4, Files.size(binary));
+        } finally {
+            Files.delete(text);
+            Files.delete(binary);
+        }
+    }
+
+    // Overwrites the ints from offset on in the header of a freshly written maze.
+    void checkRejectsHeader(int offset, int... values) throws Exception {
+        Path file = Files.createTempFile("maze", ".bin");
+        try {
+            BinaryMazeFile.write(new Maze(matrix, entrances, 3, 2), file);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.allocate(values.length * 4).order(ByteOrder.LITTLE_ENDIAN);
+                for (int value : values) {
+                    buffer.putInt(value);
+                }
+                channel.write(buffer.flip(), offset);
+            }
+            IOException e = assertThrows(IOException.class, () -> BinaryMazeFile.open(file));
+            assertTrue(e.getMessage().contains(file.toString()));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testRejectsCorruptHeader() throws Exception {
+        checkRejectsHeader(8, 0);
+        checkRejectsHeader(12, -4);
+        checkRejectsHeader(8, 1 << 16, 1 << 16);
+        checkRejectsHeader(24, -1);
+        checkRejectsHeader(24, Integer.MAX_VALUE);
+    }
+}
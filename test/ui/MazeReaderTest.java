@@ -0,0 +1,69 @@
+package ui;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.InputMismatchException;
+import java.util.NoSuchElementException;
+
+import org.junit.Test;
+
+import exceptions.InvalidCellValueException;
+
+public class MazeReaderTest {
+
+    Maze read(String input) throws IOException, InvalidCellValueException {
+        try (MazeReader reader = new MazeReader(new ByteArrayInputStream(input.getBytes(StandardCharsets.US_ASCII)))) {
+            return reader.read();
+        }
+    }
+
+    @Test
+    public void testReadsMaze() throws Exception {
+        Maze maze = read("2 3\r\n1 -1 +4\n\t0 2 -1\n2\n0 0\n1 1\n1 2");
+
+        assertEquals(2, maze.getNumRows());
+        assertEquals(3, maze.getNumCols());
+        int[] cells = new int[6];
+        for (int v = 0; v < cells.length; v++) {
+            cells[v] = maze.getCells().get(v);
+        }
+        assertArrayEquals(new int[] { 1, -1, 4, 0, 2, -1 }, cells);
+        assertArrayEquals(new Integer[][] { { 0, 0 }, { 1, 1 } }, maze.getEntrances());
+        assertEquals(1, maze.getEndRow());
+        assertEquals(2, maze.getEndCol());
+    }
+
+    @Test
+    public void testRejectsNegativeCells() {
+        InvalidCellValueException e = assertThrows(InvalidCellValueException.class,
+                () -> read("1 2\n3 -7\n1\n0 0\n0 0\n"));
+        assertTrue(e.getMessage().contains("(0,1)"));
+    }
+
+    @Test
+    public void testRejectsMalformedInput() {
+        assertThrows(InputMismatchException.class, () -> read("1 x"));
+        assertThrows(NoSuchElementException.class, () -> read("2 2\n1 1\n"));
+    }
+
+    @Test
+    public void testRejectsHighBytesAsCharacters() throws IOException {
+        byte[] bom = { (byte) 0xEF, (byte) 0xBB, (byte) 0xBF, '1', ' ', '1', '\n' };
+        try (MazeReader reader = new MazeReader(new ByteArrayInputStream(bom))) {
+            assertTrue(reader.hasNext());
+            assertThrows(InputMismatchException.class, reader::nextInt);
+        }
+        byte[] high = { '1', ' ', (byte) 0xFF };
+        try (MazeReader reader = new MazeReader(new ByteArrayInputStream(high))) {
+            assertEquals(1, reader.nextInt());
+            assertTrue(reader.hasNext());
+            assertThrows(InputMismatchException.class, reader::nextInt);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package ui;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+public class PathWriterTest {
+
+    String write(int[] path, int numCols, PathWriter.Format format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PathWriter writer = new PathWriter(Channels.newChannel(out), numCols, format);
+        writer.writePath(path);
+        writer.writeLine(-1);
+        writer.flush();
+        return out.toString(StandardCharsets.US_ASCII).replace(System.lineSeparator(), "\n");
+    }
+
+    @Test
+    public void testTextFormat() throws IOException {
+        int[] path = { 3, 7, 6, 10, 14 };
+        assertEquals("(0,3) -> (1,3) -> (1,2) -> (2,2) -> (3,2)\n-1\n", write(path, 4, PathWriter.Format.TEXT));
+        assertEquals("(2,1)\n-1\n", write(new int[] { 9 }, 4, PathWriter.Format.TEXT));
+    }
+
+    @Test
+    public void testRunLengthFormat() throws IOException {
+        int[] path = { 3, 7, 6, 10, 14, 15, 11 };
+        assertEquals("(0,3) DLD2RU\n-1\n", write(path, 4, PathWriter.Format.RUN_LENGTH));
+        assertEquals("(2,1)\n-1\n", write(new int[] { 9 }, 4, PathWriter.Format.RUN_LENGTH));
+    }
+
+    @Test
+    public void testLongPathSpansBuffers() throws IOException {
+        int length = 1_000_000;
+        int[] path = new int[length];
+        for (int i = 0; i < length; i++) {
+            path[i] = i;
+        }
+        String text = write(path, length, PathWriter.Format.TEXT);
+        assertTrue(text.startsWith("(0,0) -> (0,1) -> "));
+        assertTrue(text.endsWith(" -> (0,999999)\n-1\n"));
+        assertEquals("(0,0) R999999\n-1\n", write(path, length, PathWriter.Format.RUN_LENGTH));
+    }
+}
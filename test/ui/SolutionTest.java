@@ -2,7 +2,13 @@ package ui;
 
 import static org.junit.Assert.assertEquals;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.Test;
 
@@ -144,4 +150,56 @@ public class SolutionTest {
         assertEquals("-1", result.get(0));
     }
 
+    @Test
+    public void testAnswerQueriesReusesGraph() throws IOException {
+        initSetup();
+        menu.setNumCols(4);
+        menu.setNumRows(4);
+        menu.setMatrix(new int[][] {
+                { 1, 2, 4, 2 },
+                { 3, -1, 2, 1 },
+                { -1, -1, 3, 8 },
+                { 2, -1, 1, 0 } });
+        String queries = "3\n1 0\n0 3\n3 0\n3 2\n1\n3 0\n3 2\n3 1 0 0 3 3 0 3 2\n";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        menu.answerQueries(new ByteArrayInputStream(queries.getBytes(StandardCharsets.US_ASCII)), out);
+
+        String answer = "2\n(0,3) -> (1,3) -> (1,2) -> (2,2) -> (3,2)\n7\n";
+        assertEquals((answer + "-1\n" + answer).replace("\n", System.lineSeparator()),
+                out.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void testParallelSolveMatchesSequential() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        Random random = new Random(7);
+        for (int round = 0; round < 50; round++) {
+            int rows = 1 + random.nextInt(12);
+            int cols = 1 + random.nextInt(12);
+            int[][] matrix = new int[rows][cols];
+            for (int[] row : matrix) {
+                for (int j = 0; j < cols; j++) {
+                    row[j] = random.nextInt(4) == 0 ? -1 : random.nextInt(3);
+                }
+            }
+            Integer[][] entrances = new Integer[1 + random.nextInt(6)][];
+            for (int i = 0; i < entrances.length; i++) {
+                entrances[i] = new Integer[] { random.nextInt(rows), random.nextInt(cols) };
+            }
+
+            initSetup();
+            menu.setNumRows(rows);
+            menu.setNumCols(cols);
+            menu.setMatrix(matrix);
+            menu.setEntrances(entrances);
+            menu.setEndRow(random.nextInt(rows));
+            menu.setEndCol(random.nextInt(cols));
+            List<String> sequential = menu.solve();
+            menu.setPool(pool);
+
+            assertEquals(sequential, menu.solve());
+        }
+        pool.shutdown();
+    }
 }